@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Compares time-to-ready of the classic and fast-start (AOT + AppCDS) container images.
+#
+# Time-to-ready is measured from `docker run` until /actuator/health reports UP, and the
+# JVM-reported startup time is read from the application log.
+#
+# Requires the database to be running (docker-compose up -d shashank-db).
+# Usage: scripts/compare-startup.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=18080
+CONTAINER=shashank-startup-bench
+NETWORK="$(docker inspect shashank-db -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')"
+
+sh ./gradlew bootJar
+docker build --target classic -t shashank-project:classic .
+docker build --target faststart -t shashank-project:faststart .
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local image="$1"
+    local total=0
+    local best=
+
+    echo "=== ${image} ==="
+    for run in $(seq 1 "${RUNS}"); do
+        docker rm -f "${CONTAINER}" > /dev/null 2>&1 || true
+
+        local start
+        start="$(now_ms)"
+        docker run -d --name "${CONTAINER}" --network "${NETWORK}" -p "${PORT}:8080" \
+            -e SPRING_DATASOURCE_URL=jdbc:postgresql://shashank-db:5432/shashankdb \
+            "${image}" > /dev/null
+        until curl -sf "http://localhost:${PORT}/actuator/health" | grep -q '"UP"'; do
+            sleep 0.05
+        done
+        local elapsed=$(( $(now_ms) - start ))
+
+        local started
+        started="$(docker logs "${CONTAINER}" 2>&1 | grep -o 'Started .* in [0-9.]* seconds' | tail -1 || true)"
+        echo "run ${run}: ready in ${elapsed} ms (${started:-no startup line})"
+
+        total=$(( total + elapsed ))
+        if [ -z "${best}" ] || [ "${elapsed}" -lt "${best}" ]; then
+            best="${elapsed}"
+        fi
+        docker rm -f "${CONTAINER}" > /dev/null
+    done
+    echo "${image}: mean $(( total / RUNS )) ms, best ${best} ms over ${RUNS} runs"
+}
+
+trap 'docker rm -f "${CONTAINER}" > /dev/null 2>&1 || true' EXIT
+
+measure shashank-project:classic
+measure shashank-project:faststart
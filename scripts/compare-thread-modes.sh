@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+#
+# Compares platform-thread and virtual-thread execution modes under many concurrent clients.
+#
+# Requires the database to be running (docker-compose up -d shashank-db).
+# Usage: scripts/compare-thread-modes.sh [clients] [durationSeconds]
+
+set -euo pipefail
+
+CLIENTS="${1:-5000}"
+DURATION="${2:-60}"
+PORT=8080
+URL="http://localhost:${PORT}/api/v1/users/all"
+BODY='{"pageSize":20,"countMode":"EXACT"}'
+JAR=build/libs/shashank-project.jar
+
+sh ./gradlew bootJar
+
+run_mode() {
+    local mode="$1"
+    local virtual="$2"
+
+    echo "=== ${mode} threads ==="
+    java -jar "${JAR}" --spring.profiles.active=local --spring.threads.virtual.enabled="${virtual}" \
+        --logging.level.root=warn --logging.level.com.shashank=warn > "build/${mode}-threads.log" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+    until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    # Warm up the JIT and connection pool before measuring
+    java scripts/loadtest/ConcurrentClientsLoadTest.java "${URL}" POST "${BODY}" 100 10 > /dev/null
+    java scripts/loadtest/ConcurrentClientsLoadTest.java "${URL}" POST "${BODY}" "${CLIENTS}" "${DURATION}"
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,107 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator: every client sends one request at a time for the
+ * given duration and the run reports throughput, latency percentiles and errors.
+ * <p>
+ * Run with the Java source launcher, e.g.
+ * {@code java scripts/loadtest/ConcurrentClientsLoadTest.java http://localhost:8080/api/v1/users/all POST '{}' 5000 60}
+ */
+public class ConcurrentClientsLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: ConcurrentClientsLoadTest <url> <GET|POST> <body> <clients> <durationSeconds>");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        String method = args[1];
+        String body = args[2];
+        int clients = Integer.parseInt(args[3]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[4]));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, "GET".equals(method)
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latenciesPerClient = new ArrayList<>(clients);
+        int[] counts = new int[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                long[] latencies = new long[1 << 11];
+                latenciesPerClient.add(latencies);
+                int client = i;
+                executor.submit(() -> {
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() >= 400) {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception ex) {
+                                errors.incrementAndGet();
+                            }
+                            if (counts[client] < latencies.length) {
+                                latencies[counts[client]] = System.nanoTime() - start;
+                            }
+                            counts[client]++;
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+
+        long total = Arrays.stream(counts).asLongStream().sum();
+        long[] all = new long[(int) Math.min(total, Integer.MAX_VALUE - 8)];
+        int offset = 0;
+        for (int i = 0; i < clients; i++) {
+            int recorded = Math.min(counts[i], latenciesPerClient.get(i).length);
+            System.arraycopy(latenciesPerClient.get(i), 0, all, offset, recorded);
+            offset += recorded;
+        }
+        long[] recordedLatencies = Arrays.copyOf(all, offset);
+        Arrays.sort(recordedLatencies);
+
+        System.out.printf("clients=%d duration=%ds requests=%d errors=%d throughput=%.1f req/s%n",
+                clients, duration.toSeconds(), total, errors.get(), total / (double) duration.toSeconds());
+        System.out.printf("latency p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                percentile(recordedLatencies, 0.50), percentile(recordedLatencies, 0.95),
+                percentile(recordedLatencies, 0.99), percentile(recordedLatencies, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,19 @@
+#!/bin/sh
+# Starts a hot-standby replica of the primary. On first start the data directory is
+# cloned with pg_basebackup, which also writes standby.signal and primary_conninfo.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 700 "$PGDATA"
+
+    export PGPASSWORD="$POSTGRES_PASSWORD"
+    until su-exec postgres pg_basebackup -h "$PRIMARY_HOST" -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream; do
+        echo "Waiting for primary $PRIMARY_HOST to accept replication connections..."
+        rm -rf "${PGDATA:?}"/*
+        sleep 2
+    done
+fi
+
+exec su-exec postgres postgres -c hot_standby=on
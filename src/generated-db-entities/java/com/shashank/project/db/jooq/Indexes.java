@@ -22,7 +22,9 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index IDX_USER_CREATED_ON = Internal.createIndex(DSL.name("idx_user_created_on"), User.USER, new OrderField[] { User.USER.CREATED_ON }, false);
+    public static final Index IDX_USER_CREATED_ON_ID = Internal.createIndex(DSL.name("idx_user_created_on_id"), User.USER, new OrderField[] { User.USER.CREATED_ON, User.USER.ID }, false);
     public static final Index IDX_USER_EMAIL = Internal.createIndex(DSL.name("idx_user_email"), User.USER, new OrderField[] { User.USER.EMAIL }, false);
+    public static final Index IDX_USER_EMAIL_TRGM = Internal.createIndex(DSL.name("idx_user_email_trgm"), User.USER, new OrderField[] { User.USER.EMAIL }, false);
     public static final Index IDX_USER_IS_ACTIVE = Internal.createIndex(DSL.name("idx_user_is_active"), User.USER, new OrderField[] { User.USER.IS_ACTIVE }, false);
+    public static final Index IDX_USER_NAME_TRGM = Internal.createIndex(DSL.name("idx_user_name_trgm"), User.USER, new OrderField[] { User.USER.NAME }, false);
 }
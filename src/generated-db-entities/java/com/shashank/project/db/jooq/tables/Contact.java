@@ -96,6 +96,11 @@ public class Contact extends TableImpl<ContactRecord> {
      */
     public final TableField<ContactRecord, UUID> UPDATED_BY = createField(DSL.name("updated_by"), SQLDataType.UUID, this, "");
 
+    /**
+     * The column <code>contact.version</code>.
+     */
+    public final TableField<ContactRecord, Long> VERSION = createField(DSL.name("version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
     private Contact(Name alias, Table<ContactRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
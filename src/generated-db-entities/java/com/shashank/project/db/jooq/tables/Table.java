@@ -95,6 +95,11 @@ public class Table extends TableImpl<TableRecord> {
      */
     public final TableField<TableRecord, UUID> UPDATED_BY = createField(DSL.name("updated_by"), SQLDataType.UUID, this, "");
 
+    /**
+     * The column <code>table.version</code>.
+     */
+    public final TableField<TableRecord, Long> VERSION = createField(DSL.name("version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
     private Table(Name alias, org.jooq.Table<TableRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -110,6 +110,11 @@ public class User extends TableImpl<UserRecord> {
      */
     public final TableField<UserRecord, UUID> UPDATED_BY = createField(DSL.name("updated_by"), SQLDataType.UUID, this, "");
 
+    /**
+     * The column <code>user.version</code>.
+     */
+    public final TableField<UserRecord, Long> VERSION = createField(DSL.name("version"), SQLDataType.BIGINT.nullable(false).defaultValue(DSL.field(DSL.raw("0"), SQLDataType.BIGINT)), this, "");
+
     private User(Name alias, Table<UserRecord> aliased) {
         this(alias, aliased, (Field<?>[]) null, null);
     }
@@ -177,7 +182,7 @@ public class User extends TableImpl<UserRecord> {
 
     @Override
     public List<Index> getIndexes() {
-        return Arrays.asList(Indexes.IDX_USER_CREATED_ON, Indexes.IDX_USER_EMAIL, Indexes.IDX_USER_IS_ACTIVE);
+        return Arrays.asList(Indexes.IDX_USER_CREATED_ON_ID, Indexes.IDX_USER_EMAIL, Indexes.IDX_USER_EMAIL_TRGM, Indexes.IDX_USER_IS_ACTIVE, Indexes.IDX_USER_NAME_TRGM);
     }
 
     @Override
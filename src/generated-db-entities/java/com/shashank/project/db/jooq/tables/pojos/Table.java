@@ -26,6 +26,7 @@ public class Table implements Serializable {
     private OffsetDateTime updatedOn;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long version;
 
     public Table() {}
 
@@ -39,6 +40,7 @@ public class Table implements Serializable {
         this.updatedOn = value.updatedOn;
         this.createdBy = value.createdBy;
         this.updatedBy = value.updatedBy;
+        this.version = value.version;
     }
 
     public Table(
@@ -50,7 +52,8 @@ public class Table implements Serializable {
         OffsetDateTime createdOn,
         OffsetDateTime updatedOn,
         UUID createdBy,
-        UUID updatedBy
+        UUID updatedBy,
+        Long version
     ) {
         this.id = id;
         this.name = name;
@@ -61,6 +64,7 @@ public class Table implements Serializable {
         this.updatedOn = updatedOn;
         this.createdBy = createdBy;
         this.updatedBy = updatedBy;
+        this.version = version;
     }
 
     /**
@@ -198,6 +202,21 @@ public class Table implements Serializable {
         return this;
     }
 
+    /**
+     * Getter for <code>table.version</code>.
+     */
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Setter for <code>table.version</code>.
+     */
+    public Table setVersion(Long version) {
+        this.version = version;
+        return this;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -261,6 +280,12 @@ public class Table implements Serializable {
         }
         else if (!this.updatedBy.equals(other.updatedBy))
             return false;
+        if (this.version == null) {
+            if (other.version != null)
+                return false;
+        }
+        else if (!this.version.equals(other.version))
+            return false;
         return true;
     }
 
@@ -277,6 +302,7 @@ public class Table implements Serializable {
         result = prime * result + ((this.updatedOn == null) ? 0 : this.updatedOn.hashCode());
         result = prime * result + ((this.createdBy == null) ? 0 : this.createdBy.hashCode());
         result = prime * result + ((this.updatedBy == null) ? 0 : this.updatedBy.hashCode());
+        result = prime * result + ((this.version == null) ? 0 : this.version.hashCode());
         return result;
     }
 
@@ -293,6 +319,7 @@ public class Table implements Serializable {
         sb.append(", ").append(updatedOn);
         sb.append(", ").append(createdBy);
         sb.append(", ").append(updatedBy);
+        sb.append(", ").append(version);
 
         sb.append(")");
         return sb.toString();
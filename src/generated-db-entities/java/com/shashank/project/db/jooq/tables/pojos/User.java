@@ -27,6 +27,7 @@ public class User implements Serializable {
     private OffsetDateTime updatedOn;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long version;
 
     public User() {}
 
@@ -41,6 +42,7 @@ public class User implements Serializable {
         this.updatedOn = value.updatedOn;
         this.createdBy = value.createdBy;
         this.updatedBy = value.updatedBy;
+        this.version = value.version;
     }
 
     public User(
@@ -53,7 +55,8 @@ public class User implements Serializable {
         OffsetDateTime createdOn,
         OffsetDateTime updatedOn,
         UUID createdBy,
-        UUID updatedBy
+        UUID updatedBy,
+        Long version
     ) {
         this.id = id;
         this.name = name;
@@ -65,6 +68,7 @@ public class User implements Serializable {
         this.updatedOn = updatedOn;
         this.createdBy = createdBy;
         this.updatedBy = updatedBy;
+        this.version = version;
     }
 
     /**
@@ -217,6 +221,21 @@ public class User implements Serializable {
         return this;
     }
 
+    /**
+     * Getter for <code>user.version</code>.
+     */
+    public Long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Setter for <code>user.version</code>.
+     */
+    public User setVersion(Long version) {
+        this.version = version;
+        return this;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -286,6 +305,12 @@ public class User implements Serializable {
         }
         else if (!this.updatedBy.equals(other.updatedBy))
             return false;
+        if (this.version == null) {
+            if (other.version != null)
+                return false;
+        }
+        else if (!this.version.equals(other.version))
+            return false;
         return true;
     }
 
@@ -303,6 +328,7 @@ public class User implements Serializable {
         result = prime * result + ((this.updatedOn == null) ? 0 : this.updatedOn.hashCode());
         result = prime * result + ((this.createdBy == null) ? 0 : this.createdBy.hashCode());
         result = prime * result + ((this.updatedBy == null) ? 0 : this.updatedBy.hashCode());
+        result = prime * result + ((this.version == null) ? 0 : this.version.hashCode());
         return result;
     }
 
@@ -320,6 +346,7 @@ public class User implements Serializable {
         sb.append(", ").append(updatedOn);
         sb.append(", ").append(createdBy);
         sb.append(", ").append(updatedBy);
+        sb.append(", ").append(version);
 
         sb.append(")");
         return sb.toString();
@@ -156,6 +156,21 @@ public class ContactRecord extends UpdatableRecordImpl<ContactRecord> {
         return (UUID) get(8);
     }
 
+    /**
+     * Setter for <code>contact.version</code>.
+     */
+    public ContactRecord setVersion(Long value) {
+        set(9, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>contact.version</code>.
+     */
+    public Long getVersion() {
+        return (Long) get(9);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -179,7 +194,7 @@ public class ContactRecord extends UpdatableRecordImpl<ContactRecord> {
     /**
      * Create a detached, initialised ContactRecord
      */
-    public ContactRecord(UUID id, String name, String email, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy) {
+    public ContactRecord(UUID id, String name, String email, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy, Long version) {
         super(Contact.CONTACT);
 
         setId(id);
@@ -191,6 +206,7 @@ public class ContactRecord extends UpdatableRecordImpl<ContactRecord> {
         setUpdatedOn(updatedOn);
         setCreatedBy(createdBy);
         setUpdatedBy(updatedBy);
+        setVersion(version);
         resetChangedOnNotNull();
     }
 
@@ -210,6 +226,7 @@ public class ContactRecord extends UpdatableRecordImpl<ContactRecord> {
             setUpdatedOn(value.getUpdatedOn());
             setCreatedBy(value.getCreatedBy());
             setUpdatedBy(value.getUpdatedBy());
+            setVersion(value.getVersion());
             resetChangedOnNotNull();
         }
     }
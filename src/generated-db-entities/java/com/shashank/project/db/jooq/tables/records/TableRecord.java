@@ -156,6 +156,21 @@ public class TableRecord extends UpdatableRecordImpl<TableRecord> {
         return (UUID) get(8);
     }
 
+    /**
+     * Setter for <code>table.version</code>.
+     */
+    public TableRecord setVersion(Long value) {
+        set(9, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>table.version</code>.
+     */
+    public Long getVersion() {
+        return (Long) get(9);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -179,7 +194,7 @@ public class TableRecord extends UpdatableRecordImpl<TableRecord> {
     /**
      * Create a detached, initialised TableRecord
      */
-    public TableRecord(UUID id, String name, String email, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy) {
+    public TableRecord(UUID id, String name, String email, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy, Long version) {
         super(Table.TABLE);
 
         setId(id);
@@ -191,6 +206,7 @@ public class TableRecord extends UpdatableRecordImpl<TableRecord> {
         setUpdatedOn(updatedOn);
         setCreatedBy(createdBy);
         setUpdatedBy(updatedBy);
+        setVersion(version);
         resetChangedOnNotNull();
     }
 
@@ -210,6 +226,7 @@ public class TableRecord extends UpdatableRecordImpl<TableRecord> {
             setUpdatedOn(value.getUpdatedOn());
             setCreatedBy(value.getCreatedBy());
             setUpdatedBy(value.getUpdatedBy());
+            setVersion(value.getVersion());
             resetChangedOnNotNull();
         }
     }
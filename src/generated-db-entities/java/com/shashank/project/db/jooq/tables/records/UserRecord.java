@@ -171,6 +171,21 @@ public class UserRecord extends UpdatableRecordImpl<UserRecord> {
         return (UUID) get(9);
     }
 
+    /**
+     * Setter for <code>user.version</code>.
+     */
+    public UserRecord setVersion(Long value) {
+        set(10, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>user.version</code>.
+     */
+    public Long getVersion() {
+        return (Long) get(10);
+    }
+
     // -------------------------------------------------------------------------
     // Primary key information
     // -------------------------------------------------------------------------
@@ -194,7 +209,7 @@ public class UserRecord extends UpdatableRecordImpl<UserRecord> {
     /**
      * Create a detached, initialised UserRecord
      */
-    public UserRecord(UUID id, String name, String email, String password, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy) {
+    public UserRecord(UUID id, String name, String email, String password, String mobileNumber, Boolean isActive, OffsetDateTime createdOn, OffsetDateTime updatedOn, UUID createdBy, UUID updatedBy, Long version) {
         super(User.USER);
 
         setId(id);
@@ -207,6 +222,7 @@ public class UserRecord extends UpdatableRecordImpl<UserRecord> {
         setUpdatedOn(updatedOn);
         setCreatedBy(createdBy);
         setUpdatedBy(updatedBy);
+        setVersion(version);
         resetChangedOnNotNull();
     }
 
@@ -227,6 +243,7 @@ public class UserRecord extends UpdatableRecordImpl<UserRecord> {
             setUpdatedOn(value.getUpdatedOn());
             setCreatedBy(value.getCreatedBy());
             setUpdatedBy(value.getUpdatedBy());
+            setVersion(value.getVersion());
             resetChangedOnNotNull();
         }
     }
@@ -0,0 +1,50 @@
+package com.shashank.project.user.dto.response;
+
+import com.shashank.project.user.dto.request.GetAllUsersRequestDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the paginated user list response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GetAllUsersResponseDTOBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private List<UserResponseDTO> users;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            users.add(UserResponseDTO.builder()
+                    .id(UUID.randomUUID())
+                    .name("User " + i)
+                    .email("user" + i + "@shashank.com")
+                    .isActive(true)
+                    .createdOn(OffsetDateTime.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public GetAllUsersResponseDTO of() {
+        return GetAllUsersResponseDTO.of(users, 12_345_678, GetAllUsersRequestDTO.CountMode.EXACT, true, 3, pageSize);
+    }
+}
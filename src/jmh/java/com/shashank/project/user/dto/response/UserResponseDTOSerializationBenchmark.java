@@ -0,0 +1,52 @@
+package com.shashank.project.user.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Jackson serialization of the user response DTO with Spring's default ObjectMapper settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserResponseDTOSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserResponseDTO user;
+
+    @Setup
+    public void setUp() {
+        // Mirrors JacksonConfig, which lets @JsonFilter DTOs serialize without a request filter
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .build();
+        user = UserResponseDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark User")
+                .email("benchmark@shashank.com")
+                .mobileNumber("9999999999")
+                .isActive(true)
+                .createdOn(OffsetDateTime.now())
+                .updatedOn(OffsetDateTime.now())
+                .createdBy(UUID.randomUUID())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+}
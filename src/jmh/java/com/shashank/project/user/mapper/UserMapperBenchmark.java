@@ -0,0 +1,40 @@
+package com.shashank.project.user.mapper;
+
+import com.shashank.project.db.jooq.tables.pojos.User;
+import com.shashank.project.user.dto.response.UserResponseDTO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks mapping a User entity to its response DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+    private UserMapper userMapper;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        userMapper = Mappers.getMapper(UserMapper.class);
+        user = new User(UUID.randomUUID(), "Benchmark User", "benchmark@shashank.com", "$2a$10$hash",
+                "9999999999", true, OffsetDateTime.now(), OffsetDateTime.now(), null, null, 0L);
+    }
+
+    @Benchmark
+    public UserResponseDTO toResponseDTO() {
+        return userMapper.toResponseDTO(user);
+    }
+}
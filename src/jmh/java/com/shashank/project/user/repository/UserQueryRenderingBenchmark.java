@@ -0,0 +1,51 @@
+package com.shashank.project.user.repository;
+
+import com.shashank.project.user.dto.request.GetAllUsersRequestDTO;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.shashank.project.db.jooq.Tables.USER;
+
+/**
+ * Benchmarks building and rendering the filtered user listing query, without a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserQueryRenderingBenchmark {
+
+    @Param({"CONTAINS", "PREFIX", "SIMILARITY"})
+    private GetAllUsersRequestDTO.MatchStrategy matchStrategy;
+
+    private UserRepository userRepository;
+    private GetAllUsersRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        DSLContext dslContext = DSL.using(SQLDialect.POSTGRES);
+        userRepository = new UserRepository(dslContext);
+        request = GetAllUsersRequestDTO.builder()
+                .page(3)
+                .pageSize(20)
+                .nameFilter("shash")
+                .emailFilter("example.com")
+                .matchStrategy(matchStrategy)
+                .build();
+    }
+
+    @Benchmark
+    public String renderPageQuery() {
+        return userRepository.buildPageQuery(request, request.getPageSize() + 1, USER.asterisk()).getSQL();
+    }
+}
@@ -1,17 +1,23 @@
 package com.shashank.project;
 
+import com.shashank.project.config.DatabaseMigrator;
 import com.shashank.project.config.SwaggerConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 
+import java.util.Arrays;
+
 @EnableConfigurationProperties
 @SpringBootApplication(scanBasePackages = {"com.shashank.project"})
 @Import({SwaggerConfig.class})
 public class ShashankProjectApplication {
 
     public static void main(String[] args) {
+        if (args.length > 0 && DatabaseMigrator.COMMAND.equals(args[0])) {
+            System.exit(DatabaseMigrator.run(ShashankProjectApplication.class, Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(ShashankProjectApplication.class, args);
     }
 }
@@ -0,0 +1,61 @@
+package com.shashank.project.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO for batch get-by-ids, with one result per distinct requested ID in request order.
+ *
+ * @param <T> The type of the returned entity representation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetResponseDTO<T> {
+
+    private List<ItemDTO<T>> results;
+    private Integer requested;
+    private Integer found;
+    private Integer notFound;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemDTO<T> {
+        private UUID id;
+        private Boolean found;
+        private T data;
+    }
+
+    /**
+     * Builds the response in the order of {@code ids}, marking IDs absent from {@code byId} as not found.
+     *
+     * @param ids  The distinct requested IDs, in request order
+     * @param byId The fetched entities keyed by ID
+     * @return The batch response
+     */
+    public static <T> BatchGetResponseDTO<T> of(Collection<UUID> ids, Map<UUID, T> byId) {
+        List<ItemDTO<T>> results = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T data = byId.get(id);
+            results.add(new ItemDTO<>(id, data != null, data));
+        }
+
+        return BatchGetResponseDTO.<T>builder()
+                .results(results)
+                .requested(ids.size())
+                .found(byId.size())
+                .notFound(ids.size() - byId.size())
+                .build();
+    }
+}
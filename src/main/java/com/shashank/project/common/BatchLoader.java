@@ -0,0 +1,157 @@
+package com.shashank.project.common;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-key lookups into one batched lookup.
+ * <p>
+ * The first key to arrive opens a short window; every key that arrives before the
+ * window closes, or until {@code maxBatchSize} keys are pending, is loaded with one
+ * call to the batch function, and each caller receives its own value. This trades a
+ * little latency for far fewer round trips and pooled connections under load.
+ * <p>
+ * Batch sizes and the time each key spent waiting for its batch are published as
+ * {@code batch.loader.size} and {@code batch.loader.wait}, tagged with the loader name.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    private final String name;
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ConcurrentLinkedQueue<PendingLoad<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final DistributionSummary batchSize;
+    private final Timer waitTimer;
+
+    public BatchLoader(String name,
+                       Function<Collection<K>, Map<K, V>> batchFunction,
+                       ScheduledExecutorService scheduler,
+                       Duration window,
+                       int maxBatchSize,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.scheduler = scheduler;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchSize = DistributionSummary.builder("batch.loader.size")
+                .description("Number of distinct keys loaded per batch")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("batch.loader.wait")
+                .description("Time a key waited for its batch to be dispatched")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the value for a key, blocking until its batch completes.
+     *
+     * @param key The key to load
+     * @return The value, or empty if the batch function returned none for this key
+     */
+    public Optional<V> load(K key) {
+        if (windowNanos <= 0 || maxBatchSize == 1) {
+            // Batching disabled, load directly on the caller's thread
+            return Optional.ofNullable(batchFunction.apply(List.of(key)).get(key));
+        }
+
+        PendingLoad<K, V> pending = new PendingLoad<>(key, System.nanoTime(), new CompletableFuture<>());
+        queue.add(pending);
+
+        int count = pendingCount.incrementAndGet();
+        if (count == 1) {
+            schedule(windowNanos);
+        } else if (count % maxBatchSize == 0) {
+            schedule(0);
+        }
+
+        try {
+            return Optional.ofNullable(pending.future().join());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private void schedule(long delayNanos) {
+        try {
+            scheduler.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            // Scheduler is shutting down, so dispatch on the caller's thread instead
+            dispatch();
+        }
+    }
+
+    private void dispatch() {
+        List<PendingLoad<K, V>> batch = new ArrayList<>();
+        PendingLoad<K, V> next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Keys that arrived while this batch was draining get a window of their own
+        if (pendingCount.addAndGet(-batch.size()) > 0) {
+            schedule(windowNanos);
+        }
+
+        long dispatchNanos = System.nanoTime();
+        Set<K> keys = new LinkedHashSet<>();
+        for (PendingLoad<K, V> pending : batch) {
+            keys.add(pending.key());
+            waitTimer.record(dispatchNanos - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(keys.size());
+
+        try {
+            Map<K, V> values = batchFunction.apply(keys);
+            for (PendingLoad<K, V> pending : batch) {
+                pending.future().complete(values.get(pending.key()));
+            }
+        } catch (RuntimeException | Error ex) {
+            log.error("Batch load of {} keys failed for loader {}", keys.size(), name, ex);
+            for (PendingLoad<K, V> pending : batch) {
+                pending.future().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private record PendingLoad<K, V>(K key, long enqueuedNanos, CompletableFuture<V> future) {
+    }
+}
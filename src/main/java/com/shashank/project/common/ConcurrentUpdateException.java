@@ -0,0 +1,14 @@
+package com.shashank.project.common;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when an entity was changed by another request between reading and
+ * writing it, so the update was not applied.
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public ConcurrentUpdateException(String entityName, UUID id) {
+        super(String.format("%s with id %s was modified concurrently, retry the update", entityName, id));
+    }
+}
@@ -0,0 +1,72 @@
+package com.shashank.project.common;
+
+import java.util.UUID;
+
+/**
+ * Builds and matches strong entity tags for entity reads and conditional updates.
+ * <p>
+ * A tag is derived from the entity ID and its {@code version} column, which every update
+ * increments, so it can be computed from a version lookup without loading the entity. The
+ * same tag answers {@code If-None-Match} on reads and guards {@code If-Match} on updates.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Builds the quoted entity tag for an entity.
+     *
+     * @param id      The entity ID
+     * @param version The entity's version
+     * @return The quoted strong entity tag
+     */
+    public static String of(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Returns whether an {@code If-None-Match} header value matches the entity tag.
+     *
+     * @param ifNoneMatch The header value, possibly a comma-separated list or {@code *}
+     * @param etag        The current quoted entity tag
+     * @return true if the client's copy is current
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                // If-None-Match uses weak comparison
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether an {@code If-Match} header value matches the entity tag.
+     *
+     * @param ifMatch The header value, possibly a comma-separated list or {@code *}
+     * @param etag    The current quoted entity tag
+     * @return true if the client's precondition holds
+     */
+    public static boolean matchesStrong(String ifMatch, String etag) {
+        if (ifMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-Match uses strong comparison, so weak tags never match
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,402 @@
+package com.shashank.project.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable append-only journal of opaque records, backed by memory-mapped segment files.
+ * <p>
+ * Records are framed as {@code [length][crc32][payload]} in pre-allocated segments. An
+ * append copies the record into the mapping and returns once everything up to the end of
+ * the record has been forced to disk, so an appended record survives a process or host
+ * crash. Forces always cover the journal in append order, from the last durable position
+ * to the current end, and concurrent appends share them; a record is therefore never
+ * durable before the records ahead of it, and discarding everything after a torn record
+ * on recovery only loses appends that had not returned yet. A single consumer
+ * reads records in order with {@link #read(int)} and confirms them with
+ * {@link #acknowledge(Batch)}; the acknowledged position is kept in a checkpoint file, so
+ * records that were read but not acknowledged are read again after a restart. Segments
+ * are deleted once every record in them is acknowledged, and a torn record left at the
+ * tail by a crash mid-append fails its checksum and is discarded on open. The directory
+ * is locked while the journal is open, so two processes can never share it.
+ */
+@Slf4j
+public class MappedJournal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel checkpointChannel;
+    private final FileLock directoryLock;
+    private final NavigableMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final Object flushLock = new Object();
+
+    private long writeSegment;
+    private int writeOffset;
+    private long readSegment;
+    private int readOffset;
+    private long pendingRecords;
+    private boolean closed;
+
+    // Guarded by flushLock: everything before this position has been forced to disk
+    private long durableSegment;
+    private int durableOffset;
+
+    /**
+     * Opens the journal in the given directory, creating it if needed, and recovers the
+     * write and acknowledged positions from the files found there.
+     *
+     * @param directory   The directory holding the segment and checkpoint files
+     * @param segmentSize The size of newly created segments in bytes
+     * @throws IOException           if the files cannot be created, mapped or read
+     * @throws IllegalStateException if another process or journal has the directory open
+     */
+    public MappedJournal(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_SIZE + " bytes");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.directoryLock = lockDirectory();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    long sequence = Long.parseLong(name, SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length(), 10);
+                    segments.put(sequence, map(sequence, 0));
+                }
+            }
+        }
+        recover();
+        durableSegment = writeSegment;
+        durableOffset = writeOffset;
+    }
+
+    /**
+     * Appends a record and forces it to disk.
+     *
+     * @param payload The record bytes
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     * @throws IllegalStateException    if the journal is closed
+     */
+    public void append(byte[] payload) {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit in a segment");
+        }
+
+        MappedByteBuffer segment;
+        int offset;
+        long endSegment;
+        int endOffset;
+        synchronized (this) {
+            ensureOpen();
+            segment = segments.get(writeSegment);
+            if (writeOffset + recordBytes > segment.capacity()) {
+                if (writeOffset + Integer.BYTES <= segment.capacity()) {
+                    segment.putInt(writeOffset, END_OF_SEGMENT);
+                }
+                writeSegment++;
+                writeOffset = 0;
+                segment = openSegment(writeSegment);
+            }
+
+            offset = writeOffset;
+            segment.put(offset + HEADER_BYTES, payload);
+            segment.putInt(offset + Integer.BYTES, checksum(segment, offset + HEADER_BYTES, payload.length));
+            // The length goes last, so a reader never sees a header without its payload
+            segment.putInt(offset, payload.length);
+            writeOffset += recordBytes;
+            pendingRecords++;
+            endSegment = writeSegment;
+            endOffset = writeOffset;
+        }
+
+        // Flushing outside the append lock lets concurrent appends share the cost of the disk write
+        flushTo(endSegment, endOffset);
+    }
+
+    /**
+     * Reads up to {@code maxRecords} records following the acknowledged position. Reading
+     * does not move that position, so calling this again without acknowledging returns
+     * the same records.
+     *
+     * @param maxRecords The maximum number of records to return
+     * @return The records and the position after the last one
+     */
+    public synchronized Batch read(int maxRecords) {
+        ensureOpen();
+        List<byte[]> records = new ArrayList<>();
+        long segmentSequence = readSegment;
+        int offset = readOffset;
+
+        while (records.size() < maxRecords && (segmentSequence < writeSegment || offset < writeOffset)) {
+            MappedByteBuffer segment = segments.get(segmentSequence);
+            int length = recordLength(segment, offset);
+            if (length < 0) {
+                if (segmentSequence < writeSegment) {
+                    // End of a full segment, or a corrupt record that makes the rest unreadable
+                    segmentSequence = segments.higherKey(segmentSequence);
+                    offset = 0;
+                    continue;
+                }
+                log.error("Corrupt journal record in segment {} at offset {}, skipping {} bytes",
+                        segmentSequence, offset, writeOffset - offset);
+                offset = writeOffset;
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_BYTES, payload);
+            records.add(payload);
+            offset += HEADER_BYTES + length;
+        }
+        return new Batch(records, segmentSequence, offset);
+    }
+
+    /**
+     * Marks every record of a batch, and all records before it, as consumed. The batch
+     * must be the latest one returned by {@link #read(int)}.
+     *
+     * @param batch The batch that has been processed
+     */
+    public synchronized void acknowledge(Batch batch) {
+        ensureOpen();
+        writeCheckpoint(batch.segment(), batch.offset());
+        readSegment = batch.segment();
+        readOffset = batch.offset();
+        pendingRecords = Math.max(0, pendingRecords - batch.records().size());
+
+        while (segments.firstKey() < readSegment) {
+            Map.Entry<Long, MappedByteBuffer> consumed = segments.pollFirstEntry();
+            try {
+                Files.deleteIfExists(segmentPath(consumed.getKey()));
+            } catch (IOException ex) {
+                log.warn("Failed to delete consumed journal segment {}", consumed.getKey(), ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records appended but not yet acknowledged.
+     */
+    public synchronized long pendingRecords() {
+        return pendingRecords;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segments.clear();
+        directoryLock.release();
+        checkpointChannel.close();
+    }
+
+    /**
+     * Forces the journal to disk up to at least the given position, in append order.
+     * <p>
+     * The first caller forces everything appended so far, from the last durable position
+     * on; callers waiting behind it find their records already durable and return.
+     */
+    private void flushTo(long segment, int offset) {
+        synchronized (flushLock) {
+            if (durableSegment > segment || (durableSegment == segment && durableOffset >= offset)) {
+                return;
+            }
+
+            long toSegment;
+            int toOffset;
+            NavigableMap<Long, MappedByteBuffer> pending;
+            synchronized (this) {
+                toSegment = writeSegment;
+                toOffset = writeOffset;
+                // Segments consumed and deleted in the meantime need no flush
+                pending = new TreeMap<>(segments.subMap(durableSegment, true, toSegment, true));
+            }
+
+            for (Map.Entry<Long, MappedByteBuffer> entry : pending.entrySet()) {
+                MappedByteBuffer buffer = entry.getValue();
+                int from = entry.getKey() == durableSegment ? durableOffset : 0;
+                int to = entry.getKey() == toSegment ? toOffset : buffer.capacity();
+                if (to > from) {
+                    buffer.force(from, to - from);
+                }
+            }
+            durableSegment = toSegment;
+            durableOffset = toOffset;
+        }
+    }
+
+    private FileLock lockDirectory() throws IOException {
+        FileLock lock;
+        try {
+            lock = checkpointChannel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+        if (lock == null) {
+            checkpointChannel.close();
+            throw new IllegalStateException("Journal directory " + directory + " is already in use");
+        }
+        return lock;
+    }
+
+    private void recover() throws IOException {
+        ByteBuffer checkpoint = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        boolean hasCheckpoint = checkpointChannel.read(checkpoint, 0) == checkpoint.capacity();
+        long checkpointSegment = hasCheckpoint ? checkpoint.getLong(0) : 0;
+        int checkpointOffset = hasCheckpoint ? checkpoint.getInt(Long.BYTES) : 0;
+
+        // Segments before the checkpoint were consumed but not yet deleted when the process stopped
+        while (!segments.isEmpty() && segments.firstKey() < checkpointSegment) {
+            Files.deleteIfExists(segmentPath(segments.pollFirstEntry().getKey()));
+        }
+        if (segments.isEmpty()) {
+            openSegment(checkpointSegment);
+            checkpointOffset = 0;
+        }
+        if (segments.firstKey() > checkpointSegment) {
+            checkpointOffset = 0;
+        }
+
+        readSegment = segments.firstKey();
+        readOffset = checkpointOffset;
+        writeSegment = segments.lastKey();
+
+        MappedByteBuffer tail = segments.get(writeSegment);
+        int offset = writeSegment == readSegment ? readOffset : 0;
+        int length;
+        while ((length = recordLength(tail, offset)) >= 0) {
+            offset += HEADER_BYTES + length;
+        }
+        if (offset + Integer.BYTES <= tail.capacity() && tail.getInt(offset) != 0) {
+            log.warn("Discarding torn journal record in segment {} at offset {}", writeSegment, offset);
+            tail.put(offset, new byte[tail.capacity() - offset]);
+            tail.force();
+        }
+        writeOffset = offset;
+
+        pendingRecords = countRecords();
+    }
+
+    private long countRecords() {
+        long count = 0;
+        long segmentSequence = readSegment;
+        int offset = readOffset;
+        while (segmentSequence < writeSegment || offset < writeOffset) {
+            int length = recordLength(segments.get(segmentSequence), offset);
+            if (length >= 0) {
+                count++;
+                offset += HEADER_BYTES + length;
+            } else if (segmentSequence < writeSegment) {
+                segmentSequence = segments.higherKey(segmentSequence);
+                offset = 0;
+            } else {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private MappedByteBuffer openSegment(long sequence) {
+        try {
+            MappedByteBuffer segment = map(sequence, segmentSize);
+            segments.put(sequence, segment);
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create journal segment " + sequence, ex);
+        }
+    }
+
+    private MappedByteBuffer map(long sequence, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // A new segment is sized up front; an existing one keeps the size it was created with
+            long length = size > 0 ? size : channel.size();
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+
+    private void writeCheckpoint(long segment, int offset) {
+        ByteBuffer checkpoint = ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(segment)
+                .putInt(offset)
+                .flip();
+        try {
+            checkpointChannel.write(checkpoint, 0);
+            checkpointChannel.force(false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write journal checkpoint", ex);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+    }
+
+    /**
+     * Returns the payload length of the valid record at an offset, or -1 if there is none:
+     * the end of the written data, the end-of-segment marker, or a torn or corrupt record.
+     */
+    private static int recordLength(MappedByteBuffer segment, int offset) {
+        if (offset + HEADER_BYTES > segment.capacity()) {
+            return -1;
+        }
+        int length = segment.getInt(offset);
+        if (length <= 0 || length > segment.capacity() - offset - HEADER_BYTES) {
+            return -1;
+        }
+        if (segment.getInt(offset + Integer.BYTES) != checksum(segment, offset + HEADER_BYTES, length)) {
+            return -1;
+        }
+        return length;
+    }
+
+    private static int checksum(MappedByteBuffer segment, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(segment.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Records read from the journal and the position just after the last of them.
+     */
+    public record Batch(List<byte[]> records, long segment, int offset) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.shashank.project.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public repository and service method.
+ * <p>
+ * Calls are recorded as {@code repository.calls} and {@code service.calls} timers with
+ * percentile histograms, tagged with {@code entity} (the module package, e.g. {@code user}),
+ * {@code operation} (the method name) and {@code outcome} ({@code success} or {@code error}).
+ * The error timer of a method is only registered once it first fails, so methods that never
+ * fail publish a single histogram.
+ * <p>
+ * Generated jOOQ code under {@code com.shashank.project.db} is excluded so DAO-style classes
+ * there never end up proxied and timed as repositories.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    private static final String BASE_PACKAGE = "com.shashank.project.";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, MethodTimers> timersByMethod = new ConcurrentHashMap<>();
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.shashank.project..*(..)) && @within(org.springframework.stereotype.Repository)"
+            + " && !within(com.shashank.project.db..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository.calls");
+    }
+
+    @Around("execution(public * com.shashank.project..*(..)) && @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service.calls");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metricName) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers timers = timersByMethod.computeIfAbsent(method, m -> new MethodTimers(
+                metricName, joinPoint.getTarget().getClass(), m,
+                timer(metricName, joinPoint.getTarget().getClass(), m, "success")));
+
+        long startNanos = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.success().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timers.error().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer timer(String metricName, Class<?> targetClass, Method method, String outcome) {
+        return Timer.builder(metricName)
+                .tag("entity", entity(targetClass))
+                .tag("operation", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String entity(Class<?> targetClass) {
+        String name = targetClass.getName();
+        if (!name.startsWith(BASE_PACKAGE)) {
+            return "unknown";
+        }
+        int end = name.indexOf('.', BASE_PACKAGE.length());
+        return end < 0 ? "unknown" : name.substring(BASE_PACKAGE.length(), end);
+    }
+
+    private final class MethodTimers {
+
+        private final String metricName;
+        private final Class<?> targetClass;
+        private final Method method;
+        private final Timer success;
+        private volatile Timer error;
+
+        MethodTimers(String metricName, Class<?> targetClass, Method method, Timer success) {
+            this.metricName = metricName;
+            this.targetClass = targetClass;
+            this.method = method;
+            this.success = success;
+        }
+
+        Timer success() {
+            return success;
+        }
+
+        Timer error() {
+            Timer timer = error;
+            if (timer == null) {
+                // Registration is idempotent, so a race only looks the same timer up twice
+                timer = timer(metricName, targetClass, method, "error");
+                error = timer;
+            }
+            return timer;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.shashank.project.common;
+
+import com.shashank.project.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodes passwords on the bounded password hashing executor.
+ * <p>
+ * Callers must not hold a database connection while waiting, so that the slow hash
+ * does not pin a pooled connection. When the executor is saturated the request is
+ * rejected with {@link TooManyRequestsException}.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService passwordHashingExecutor;
+    private final int parallelism;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int parallelism) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.parallelism = parallelism;
+        this.rejectedCounter = Counter.builder("executor.rejected.submissions")
+                .description("Password hashing tasks rejected because the executor was saturated")
+                .tag("name", PasswordHashingConfig.EXECUTOR_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encodes a raw password, blocking until the hash is available.
+     *
+     * @param rawPassword The raw password
+     * @return The encoded password
+     * @throws TooManyRequestsException if the hashing executor is saturated
+     */
+    public String encode(String rawPassword) {
+        Future<String> future;
+        try {
+            future = passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("Password hashing executor saturated, rejecting request");
+            throw new TooManyRequestsException("Server is busy, please retry shortly", ex);
+        }
+
+        return await(future);
+    }
+
+    /**
+     * Encodes many raw passwords in parallel, blocking until all hashes are available.
+     * <p>
+     * At most one task per hashing thread is submitted; the tasks share the work, so a
+     * large batch occupies the executor without flooding its queue. If the batch is
+     * rejected, fails or the caller is interrupted, the remaining passwords are not hashed.
+     *
+     * @param rawPasswords The raw passwords
+     * @return The encoded passwords, in the same order
+     * @throws TooManyRequestsException if the hashing executor is saturated
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        String[] encoded = new String[rawPasswords.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean aborted = new AtomicBoolean();
+        int workers = Math.min(parallelism, rawPasswords.size());
+
+        List<Future<?>> futures = new ArrayList<>(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                futures.add(passwordHashingExecutor.submit(() -> {
+                    int index;
+                    // BCrypt ignores interruption, so check between passwords to stop an abandoned batch
+                    while (!aborted.get() && !Thread.currentThread().isInterrupted()
+                            && (index = next.getAndIncrement()) < encoded.length) {
+                        encoded[index] = passwordEncoder.encode(rawPasswords.get(index));
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException ex) {
+            abort(aborted, futures);
+            rejectedCounter.increment();
+            log.warn("Password hashing executor saturated, rejecting batch of {}", rawPasswords.size());
+            throw new TooManyRequestsException("Server is busy, please retry shortly", ex);
+        }
+
+        try {
+            futures.forEach(this::await);
+        } catch (RuntimeException ex) {
+            abort(aborted, futures);
+            throw ex;
+        }
+        return Arrays.asList(encoded);
+    }
+
+    private static void abort(AtomicBoolean aborted, List<Future<?>> futures) {
+        aborted.set(true);
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while hashing password", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
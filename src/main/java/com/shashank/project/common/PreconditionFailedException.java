@@ -0,0 +1,14 @@
+package com.shashank.project.common;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when an {@code If-Match} precondition does not hold because the
+ * entity has changed since the client read it.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String entityName, UUID id) {
+        super(String.format("%s with id %s has been modified since it was read", entityName, id));
+    }
+}
@@ -0,0 +1,70 @@
+package com.shashank.project.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates identical concurrent calls so that callers for the same key share one result.
+ * <p>
+ * The first caller for a key runs the supplier; callers that arrive while it is in
+ * flight wait for and receive the same value or exception. Nothing is cached once the
+ * call completes. Lookups of in-flight calls are a plain concurrent map read, so the
+ * uncontended path takes no locks beyond a single insert and remove.
+ * <p>
+ * Every waiter receives the same instance, so callers must treat it as read-only.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier for the key, or joins a call for the same key already in flight.
+     *
+     * @param key      The key identifying the call
+     * @param supplier The call to run if none is in flight
+     * @return The shared result
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
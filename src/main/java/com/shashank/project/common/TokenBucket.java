@@ -0,0 +1,63 @@
+package com.shashank.project.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * The bucket is kept as a single "theoretical arrival time" (the generic cell rate
+ * algorithm): each permit pushes it forward by one refill interval, and a permit is
+ * granted while it stays within {@code capacity} intervals of now. This is equivalent to a
+ * bucket of {@code capacity} tokens refilled at {@code refillPerSecond}, but needs only one
+ * compare-and-set per request and no refill bookkeeping.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * @param capacity        The maximum number of permits that can be taken at once
+     * @param refillPerSecond The number of permits added per second
+     * @param nowNanos        The current {@link System#nanoTime()}; the bucket starts full
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one permit if available.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @return 0 if the permit was granted, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long arrival = current - nowNanos > 0 ? current : nowNanos;
+            long waitNanos = arrival - burstNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, arrival + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket has refilled completely, in which case discarding it and
+     * starting a new one later loses no state.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.shashank.project.common;
+
+/**
+ * Exception thrown when a request is rejected because a bounded resource is saturated.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,80 @@
+package com.shashank.project.config;
+
+import com.shashank.project.common.BatchLoader;
+import com.shashank.project.contact.repository.ContactRepository;
+import com.shashank.project.db.jooq.tables.pojos.Contact;
+import com.shashank.project.db.jooq.tables.pojos.Table;
+import com.shashank.project.db.jooq.tables.pojos.User;
+import com.shashank.project.table.repository.TableRepository;
+import com.shashank.project.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration for the micro-batching loaders behind single-id lookups.
+ * <p>
+ * Concurrent lookups that arrive within {@code app.batch-loader.window}, up to
+ * {@code app.batch-loader.max-batch-size} keys, are served by one {@code id = ANY(?)}
+ * query. Setting the window to zero disables batching and loads on the caller's thread.
+ */
+@Configuration
+public class BatchLoaderConfig {
+
+    public static final String EXECUTOR_NAME = "batch.loader";
+
+    @Value("${app.batch-loader.window:2ms}")
+    private Duration window;
+
+    @Value("${app.batch-loader.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Bean(name = "batchLoaderScheduler")
+    public ScheduledExecutorService batchLoaderScheduler(
+            MeterRegistry meterRegistry,
+            @Value("${app.batch-loader.threads:4}") int threads) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                threads, new CustomizableThreadFactory("batch-loader-"));
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+    }
+
+    @Bean
+    public BatchLoader<UUID, User> userBatchLoader(UserRepository userRepository,
+                                                   @Qualifier("batchLoaderScheduler") ScheduledExecutorService scheduler,
+                                                   MeterRegistry meterRegistry) {
+        // User lookups fill the user cache, so they must not read from a lagging replica
+        return new BatchLoader<>("user",
+                ids -> userRepository.findAllByIdsFromPrimary(ids).stream().collect(Collectors.toMap(User::getId, Function.identity())),
+                scheduler, window, maxBatchSize, meterRegistry);
+    }
+
+    @Bean
+    public BatchLoader<UUID, Contact> contactBatchLoader(ContactRepository contactRepository,
+                                                         @Qualifier("batchLoaderScheduler") ScheduledExecutorService scheduler,
+                                                         MeterRegistry meterRegistry) {
+        return new BatchLoader<>("contact",
+                ids -> contactRepository.findAllByIds(ids).stream().collect(Collectors.toMap(Contact::getId, Function.identity())),
+                scheduler, window, maxBatchSize, meterRegistry);
+    }
+
+    @Bean
+    public BatchLoader<UUID, Table> tableBatchLoader(TableRepository tableRepository,
+                                                     @Qualifier("batchLoaderScheduler") ScheduledExecutorService scheduler,
+                                                     MeterRegistry meterRegistry) {
+        return new BatchLoader<>("table",
+                ids -> tableRepository.findAllByIds(ids).stream().collect(Collectors.toMap(Table::getId, Function.identity())),
+                scheduler, window, maxBatchSize, meterRegistry);
+    }
+}
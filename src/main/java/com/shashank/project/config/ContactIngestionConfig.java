@@ -0,0 +1,49 @@
+package com.shashank.project.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shashank.project.common.MappedJournal;
+import com.shashank.project.contact.ingest.ContactIngestionBuffer;
+import com.shashank.project.contact.repository.ContactRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for write-behind contact ingestion, enabled with
+ * {@code app.contacts.ingest.mode=journal}.
+ * <p>
+ * Submissions are journaled under {@code app.contacts.ingest.journal-dir}, which must be on
+ * persistent local storage, and acknowledged with 202 before they reach the database.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.contacts.ingest.mode", havingValue = "journal")
+public class ContactIngestionConfig {
+
+    @Bean(destroyMethod = "")
+    public MappedJournal contactJournal(
+            @Value("${app.contacts.ingest.journal-dir:data/contact-journal}") Path journalDir,
+            @Value("${app.contacts.ingest.segment-size:64MB}") DataSize segmentSize) throws IOException {
+        // Closed by the ingestion buffer once it has drained
+        return new MappedJournal(journalDir, Math.toIntExact(segmentSize.toBytes()));
+    }
+
+    @Bean
+    public ContactIngestionBuffer contactIngestionBuffer(
+            MappedJournal contactJournal,
+            ContactRepository contactRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.contacts.ingest.batch-size:500}") int batchSize,
+            @Value("${app.contacts.ingest.flush-interval:200ms}") Duration flushInterval,
+            @Value("${app.contacts.ingest.drain-timeout:30s}") Duration drainTimeout) {
+        return new ContactIngestionBuffer(contactJournal, contactRepository, objectMapper,
+                batchSize, flushInterval, drainTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.shashank.project.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+import java.util.Arrays;
+
+/**
+ * One-shot entry point that applies pending Liquibase changesets and exits.
+ * <p>
+ * Started from the application jar with {@code java -jar shashank-project.jar migrate}.
+ * It boots the context without a web server and with Liquibase forced on, so the
+ * changesets are applied under {@code DATABASECHANGELOGLOCK} exactly once and
+ * {@link SchemaVersionCheck} records the changelog hash. App instances can then run with
+ * {@code spring.liquibase.enabled=false} and only verify that hash at startup.
+ */
+public final class DatabaseMigrator {
+
+    public static final String COMMAND = "migrate";
+
+    private DatabaseMigrator() {
+    }
+
+    /**
+     * Runs the migration and returns the process exit code.
+     *
+     * @param primarySource The application class
+     * @param args          The remaining command-line arguments, e.g. property overrides
+     * @return 0 when the schema is current, non-zero when the migration failed
+     */
+    public static int run(Class<?> primarySource, String[] args) {
+        String[] migrationArgs = Arrays.copyOf(args, args.length + 1);
+        migrationArgs[args.length] = "--spring.liquibase.enabled=true";
+
+        SpringApplication application = new SpringApplication(primarySource);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try {
+            return SpringApplication.exit(application.run(migrationArgs));
+        } catch (RuntimeException ex) {
+            // SpringApplication has already reported the failure
+            return 1;
+        }
+    }
+}
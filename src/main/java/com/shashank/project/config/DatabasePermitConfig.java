@@ -0,0 +1,54 @@
+package com.shashank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Configuration that gates database connections behind a fair permit limiter.
+ * <p>
+ * Enabled with {@code app.db.permits.enabled=true}, typically together with
+ * {@code spring.threads.virtual.enabled=true}. The limiter is sized to the Hikari
+ * pool, so thousands of parked virtual threads queue in FIFO order in memory
+ * instead of timing out inside Hikari after {@code connection-timeout}.
+ * <p>
+ * Every Hikari pool is gated separately. The permit count of a pool is taken from
+ * {@code app.db.permits.pools.<pool>.max}, then {@code app.db.permits.max}, then the
+ * pool size, where {@code <pool>} is the Hikari pool name or, if unset, the bean name.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.db.permits.enabled", havingValue = "true")
+public class DatabasePermitConfig {
+
+    @Bean
+    public static BeanPostProcessor databasePermitBeanPostProcessor(Environment environment,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+                String poolName = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : beanName;
+                int permits = environment.getProperty("app.db.permits.pools." + poolName + ".max", Integer.class,
+                        environment.getProperty("app.db.permits.max", Integer.class,
+                                hikariDataSource.getMaximumPoolSize()));
+                Duration acquireTimeout = environment.getProperty("app.db.permits.acquire-timeout",
+                        Duration.class, Duration.ofSeconds(60));
+
+                log.info("Gating data source '{}' (pool '{}') behind {} fair permits", beanName, poolName, permits);
+                return new PermitGatedDataSource(hikariDataSource, poolName, permits, acquireTimeout,
+                        meterRegistry.getObject());
+            }
+        };
+    }
+}
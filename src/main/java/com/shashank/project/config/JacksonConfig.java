@@ -0,0 +1,21 @@
+package com.shashank.project.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the application {@code ObjectMapper}.
+ * <p>
+ * DTOs annotated with {@code @JsonFilter} serialize all properties unless a response
+ * supplies its own filter, as sparse fieldset responses do.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
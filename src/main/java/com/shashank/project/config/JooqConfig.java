@@ -0,0 +1,21 @@
+package com.shashank.project.config;
+
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the auto-configured jOOQ {@code DSLContext}.
+ * <p>
+ * Execute listener providers declared here are picked up by Spring Boot and applied to
+ * every query run through the {@code DSLContext} and the generated DAOs.
+ */
+@Configuration
+public class JooqConfig {
+
+    @Bean
+    public ExecuteListenerProvider sqlStatsListenerProvider(SqlStatsListener sqlStatsListener) {
+        return new DefaultExecuteListenerProvider(sqlStatsListener);
+    }
+}
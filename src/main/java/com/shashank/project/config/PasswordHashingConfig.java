@@ -0,0 +1,42 @@
+package com.shashank.project.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for the dedicated password hashing executor.
+ * <p>
+ * BCrypt is deliberately slow, so hashing runs on a fixed-size pool with a bounded
+ * queue. When the queue is full new submissions are rejected instead of piling up,
+ * and the pool size, active threads and queue depth are published as
+ * {@code executor.*} metrics tagged {@code name=password.hashing}.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    public static final String EXECUTOR_NAME = "password.hashing";
+
+    @Bean(name = "passwordHashingExecutor")
+    public ExecutorService passwordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${app.password-hashing.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+    }
+}
@@ -0,0 +1,113 @@
+package com.shashank.project.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source that hands out connections only while holding a permit from a fair semaphore.
+ * <p>
+ * A permit is acquired before the pool is asked for a connection and released when
+ * the connection is closed. Waiting threads are queued in arrival order and
+ * published as the {@code db.permits.waiting} gauge, with the time spent waiting
+ * recorded by the {@code db.permits.wait} timer. All meters are tagged with the
+ * {@code pool} name, so each gated pool is visible separately.
+ */
+public class PermitGatedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Timer waitTimer;
+
+    public PermitGatedDataSource(DataSource targetDataSource, String poolName, int maxPermits,
+                                 Duration acquireTimeout, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.waitTimer = Timer.builder("db.permits.wait")
+                .description("Time spent waiting for a database permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+
+        Gauge.builder("db.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a database permit")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("db.permits.available", permits, Semaphore::availablePermits)
+                .description("Database permits currently available")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return withPermitRelease(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return withPermitRelease(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out waiting for a database permit");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", ex);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Connection withPermitRelease(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,38 @@
+package com.shashank.project.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for per-client rate limiting of public endpoints, enabled with
+ * {@code app.rate-limit.enabled=true}.
+ * <p>
+ * Limits are declared per route under {@code app.rate-limit.routes}. The filter runs ahead
+ * of the security chain, so rejected requests never reach a controller.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties("app.rate-limit")
+    public RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties rateLimitProperties,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimitProperties, objectMapper, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,164 @@
+package com.shashank.project.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shashank.project.common.GlobalExceptionHandler;
+import com.shashank.project.common.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servlet filter that rejects requests over a per-client rate limit with 429, before they
+ * reach a controller and cost a pooled connection or a BCrypt hash.
+ * <p>
+ * Each configured route keeps a lock-free {@link TokenBucket} per client key in a bounded
+ * concurrent map. Buckets that have refilled completely carry no state and are discarded
+ * every {@code idleEvictionInterval}, or sooner when the map is full; clients beyond
+ * {@code maxClients} share a single overflow bucket, so a flood of new addresses is
+ * limited as one client. The first matching route applies, and rejections are counted in
+ * {@code rate.limit.rejected}, tagged with the route.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long MIN_FULL_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<RouteLimiter> routes;
+    private final RateLimitProperties.ClientKey clientKey;
+    private final String apiKeyHeader;
+    private final int maxClients;
+    private final long idleEvictionIntervalNanos;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.clientKey = properties.getClientKey();
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.maxClients = Math.max(1, properties.getMaxClients());
+        this.idleEvictionIntervalNanos = properties.getIdleEvictionInterval().toNanos();
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRoutes().stream()
+                .map(route -> new RouteLimiter(route, meterRegistry))
+                .toList();
+        routes.forEach(route -> log.info("Rate limiting {} to {} requests, refilling {}/s per client",
+                route.name, route.capacity, route.refillPerSecond));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteLimiter route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                long waitNanos = route.tryAcquire(clientKey(request), System.nanoTime());
+                if (waitNanos > 0) {
+                    route.rejected.increment();
+                    reject(response, waitNanos);
+                    return;
+                }
+                break;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (clientKey == RateLimitProperties.ClientKey.API_KEY) {
+            String apiKey = request.getHeader(apiKeyHeader);
+            if (StringUtils.hasText(apiKey)) {
+                return "key:" + apiKey;
+            }
+        }
+        // Behind a proxy, set server.forward-headers-strategy so this is the client's address
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new GlobalExceptionHandler.ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded, retry after " + retryAfterSeconds + "s"));
+    }
+
+    private final class RouteLimiter {
+
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final int capacity;
+        private final double refillPerSecond;
+        private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow;
+        private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+        private final Counter rejected;
+
+        RouteLimiter(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            this.method = StringUtils.hasText(route.getMethod()) ? route.getMethod() : null;
+            this.name = (method != null ? method + " " : "") + route.getPath();
+            this.pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            this.capacity = route.getCapacity();
+            this.refillPerSecond = route.getRefillPerSecond();
+            this.overflow = new TokenBucket(capacity, refillPerSecond, System.nanoTime());
+            this.rejected = Counter.builder("rate.limit.rejected")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("route", name)
+                    .register(meterRegistry);
+        }
+
+        boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+
+        long tryAcquire(String client, long nowNanos) {
+            sweep(nowNanos, idleEvictionIntervalNanos);
+            TokenBucket bucket = buckets.get(client);
+            if (bucket == null) {
+                if (buckets.size() >= maxClients) {
+                    sweep(nowNanos, MIN_FULL_SWEEP_INTERVAL_NANOS);
+                }
+                bucket = buckets.size() < maxClients
+                        ? buckets.computeIfAbsent(client, key -> new TokenBucket(capacity, refillPerSecond, nowNanos))
+                        : overflow;
+            }
+            return bucket.tryAcquire(nowNanos);
+        }
+
+        /**
+         * Discards full buckets at most once per interval; only the thread that wins the
+         * race for the sweep pays for it. A bucket discarded while a request is using it can
+         * let that client through once more, which is an acceptable imprecision.
+         */
+        private void sweep(long nowNanos, long intervalNanos) {
+            long last = lastSweepNanos.get();
+            if (nowNanos - last < intervalNanos || !lastSweepNanos.compareAndSet(last, nowNanos)) {
+                return;
+            }
+            buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        }
+    }
+}
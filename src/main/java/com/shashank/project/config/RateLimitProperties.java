@@ -0,0 +1,63 @@
+package com.shashank.project.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-route rate limits, bound from {@code app.rate-limit}.
+ */
+@Data
+public class RateLimitProperties {
+
+    /**
+     * How clients are told apart: {@code ip}, or {@code api-key} to use the
+     * {@link #apiKeyHeader} value when present. Only use {@code api-key} when the keys are
+     * validated upstream, since clients could otherwise rotate keys to get fresh buckets.
+     */
+    private ClientKey clientKey = ClientKey.IP;
+
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * Maximum number of client buckets kept per route; further clients share one bucket.
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * How often buckets that have refilled completely are discarded.
+     */
+    private Duration idleEvictionInterval = Duration.ofMinutes(1);
+
+    private List<Route> routes = new ArrayList<>();
+
+    public enum ClientKey {
+        IP, API_KEY
+    }
+
+    @Data
+    public static class Route {
+
+        /**
+         * HTTP method to limit, or empty for all methods.
+         */
+        private String method;
+
+        /**
+         * Path pattern, e.g. {@code /api/v1/users/**}.
+         */
+        private String path;
+
+        /**
+         * Requests a client may burst before being limited.
+         */
+        private int capacity;
+
+        /**
+         * Sustained requests per second per client.
+         */
+        private double refillPerSecond;
+    }
+}
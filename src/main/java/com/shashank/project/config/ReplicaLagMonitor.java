@@ -0,0 +1,102 @@
+package com.shashank.project.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the replica for its replay lag and decides whether reads may be routed to it.
+ * <p>
+ * A replica whose WAL is fully replayed reports zero lag, so an idle primary does not
+ * make the replica look stale. That only holds while WAL is arriving, so a replica whose
+ * WAL receiver is not streaming is unusable regardless of its replay position; reading
+ * {@code pg_stat_wal_receiver.status} requires the replica user to be a superuser or
+ * have {@code pg_read_all_stats}. The replica is considered usable only while the last
+ * check succeeded and the lag was within {@code maxLag}. The lag is published as the
+ * {@code db.replica.lag} gauge in seconds, and usability as {@code db.replica.usable}.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-"));
+
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replica replay lag in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns whether read-only work may currently be sent to the replica.
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    private void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            if (lag == null) {
+                // Without a streaming WAL receiver the replay position says nothing about staleness
+                lagSeconds = Double.NaN;
+                usable = false;
+                if (wasUsable) {
+                    log.warn("Replica is not streaming WAL from the primary, routing reads to primary");
+                }
+                return;
+            }
+            lagSeconds = lag;
+            usable = lagSeconds <= maxLagSeconds;
+        } catch (RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, routing reads to primary", ex);
+            }
+        }
+
+        if (wasUsable && !usable && !Double.isNaN(lagSeconds)) {
+            log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && usable) {
+            log.info("Replica lag {}s within bound, routing read-only transactions to replica", lagSeconds);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
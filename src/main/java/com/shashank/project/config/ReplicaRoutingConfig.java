@@ -0,0 +1,69 @@
+package com.shashank.project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration that routes read-only transactions to a Postgres replica.
+ * <p>
+ * Enabled with {@code app.datasource.replica.enabled=true}. The primary pool is built from
+ * {@code spring.datasource.*} as usual, and the replica gets its own Hikari pool from
+ * {@code app.datasource.replica.*}. Transactions marked {@code readOnly = true} use the
+ * replica while its lag stays within {@code app.datasource.replica.max-lag}; otherwise, and
+ * for all other work, connections come from the primary.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.max-lag:PT5S}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-check-interval:PT1S}") Duration checkInterval) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, checkInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        log.info("Routing read-only transactions to the replica data source");
+        // Lazy proxy defers the routing decision until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+}
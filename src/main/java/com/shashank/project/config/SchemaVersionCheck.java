@@ -0,0 +1,146 @@
+package com.shashank.project.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Records and verifies the hash of the Liquibase changelog the database was migrated with.
+ * <p>
+ * When Liquibase runs in this process (at startup, or through {@link DatabaseMigrator}),
+ * the SHA-256 of every changelog file on the classpath is written to
+ * {@code app_schema_version} once the changesets are applied. When Liquibase is disabled,
+ * startup only compares that recorded hash with the one of the changelog in this jar and
+ * fails fast on a mismatch, instead of parsing the changelog and taking
+ * {@code DATABASECHANGELOGLOCK} on every boot.
+ */
+@Slf4j
+@Component
+public class SchemaVersionCheck implements SmartInitializingSingleton {
+
+    private static final String CHANGELOG_ROOT = "db/changelog/";
+    private static final String[] CHANGELOG_EXTENSIONS = {"xml", "yaml", "yml", "sql"};
+
+    private static final Table<Record> SCHEMA_VERSION = DSL.table(DSL.name("app_schema_version"));
+    private static final Field<Integer> ID = DSL.field(DSL.name("id"), Integer.class);
+    private static final Field<String> CHANGELOG_HASH = DSL.field(DSL.name("changelog_hash"), String.class);
+    private static final Field<OffsetDateTime> APPLIED_ON = DSL.field(DSL.name("applied_on"), OffsetDateTime.class);
+    private static final int ROW_ID = 1;
+
+    private final DSLContext dslContext;
+    private final boolean liquibaseEnabled;
+    private final boolean verifyOnStartup;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    public SchemaVersionCheck(DSLContext dslContext,
+                              @Value("${spring.liquibase.enabled:true}") boolean liquibaseEnabled,
+                              @Value("${app.schema.verify-on-startup:true}") boolean verifyOnStartup) {
+        this.dslContext = dslContext;
+        this.liquibaseEnabled = liquibaseEnabled;
+        this.verifyOnStartup = verifyOnStartup;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Runs after every singleton, including Liquibase, has been initialized
+        if (liquibaseEnabled) {
+            record(changelogHash());
+        } else if (verifyOnStartup) {
+            verify(changelogHash());
+        } else {
+            log.info("Liquibase and schema version check are disabled, assuming the schema is current");
+        }
+    }
+
+    private void record(String changelogHash) {
+        if (recordedHash().filter(changelogHash::equals).isPresent()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        dslContext.insertInto(SCHEMA_VERSION, ID, CHANGELOG_HASH, APPLIED_ON)
+                .values(ROW_ID, changelogHash, now)
+                .onConflict(ID)
+                .doUpdate()
+                .set(CHANGELOG_HASH, changelogHash)
+                .set(APPLIED_ON, now)
+                .execute();
+        log.info("Recorded changelog hash {}", changelogHash);
+    }
+
+    private void verify(String changelogHash) {
+        Optional<String> recordedHash;
+        try {
+            recordedHash = recordedHash();
+        } catch (DataAccessException ex) {
+            throw new IllegalStateException("Schema version could not be read; run the migration job "
+                    + "(java -jar shashank-project.jar " + DatabaseMigrator.COMMAND + ") first", ex);
+        }
+        if (recordedHash.isEmpty()) {
+            throw new IllegalStateException("No schema version recorded; run the migration job "
+                    + "(java -jar shashank-project.jar " + DatabaseMigrator.COMMAND + ") first");
+        }
+        if (!recordedHash.get().equals(changelogHash)) {
+            throw new IllegalStateException("Database was migrated with changelog " + recordedHash.get()
+                    + " but this build expects " + changelogHash + "; run the migration job for this build");
+        }
+        log.info("Schema is current (changelog {}), skipping Liquibase", changelogHash);
+    }
+
+    private Optional<String> recordedHash() {
+        return dslContext.select(CHANGELOG_HASH)
+                .from(SCHEMA_VERSION)
+                .where(ID.eq(ROW_ID))
+                .fetchOptional(CHANGELOG_HASH);
+    }
+
+    /**
+     * Hashes every changelog file by path and content, in path order, so the result does
+     * not depend on classpath ordering.
+     */
+    private String changelogHash() {
+        try {
+            Map<String, Resource> resourcesByPath = new TreeMap<>();
+            for (String extension : CHANGELOG_EXTENSIONS) {
+                for (Resource resource : resourceResolver.getResources("classpath*:" + CHANGELOG_ROOT + "**/*." + extension)) {
+                    String url = resource.getURL().toString();
+                    resourcesByPath.put(url.substring(url.lastIndexOf(CHANGELOG_ROOT)), resource);
+                }
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, Resource> entry : resourcesByPath.entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = entry.getValue().getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read the Liquibase changelog", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.shashank.project.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing per-fingerprint SQL statistics at {@code /actuator/sqlstats}.
+ * <p>
+ * {@code GET} returns the statistics, slowest total time first. The endpoint is read-only
+ * because actuator requests are not authenticated; it is only exposed by default in the
+ * {@code local} profile.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlStatsListener sqlStatsListener;
+
+    @ReadOperation
+    public List<SqlStatsListener.SqlStatsSnapshot> sqlStats() {
+        return sqlStatsListener.snapshot();
+    }
+}
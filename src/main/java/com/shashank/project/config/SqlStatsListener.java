@@ -0,0 +1,161 @@
+package com.shashank.project.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * jOOQ execute listener that keeps per-statement statistics and reports slow queries.
+ * <p>
+ * Every statement is normalized into a fingerprint: literals become {@code ?}, bind lists
+ * and multi-row {@code VALUES} collapse to a single group, and whitespace is folded.
+ * Calls, total and max time and rows are accumulated per fingerprint with
+ * {@link LongAdder}/{@link LongAccumulator}, so recording never takes a lock. A statement
+ * slower than {@code app.sql.slow-query-threshold} is logged once per fingerprint, with
+ * bind values reduced to their types; statements folded into {@code <other>} are logged
+ * every time. Fetched rows are counted per record, so lazily fetched cursors report their
+ * rows too. Fingerprints are memoized per raw SQL string in a cache bounded by
+ * {@code app.sql.fingerprint-cache-size}, so repeated statements skip the regular expressions.
+ */
+@Slf4j
+@Component
+public class SqlStatsListener implements ExecuteListener {
+
+    private static final String OTHER_FINGERPRINT = "<other>";
+
+    private static final Object START_NANOS = new Object();
+    private static final Object FETCHED_ROWS = new Object();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern BIND_GROUP = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern REPEATED_GROUPS = Pattern.compile("\\(\\?\\+\\)(?:\\s*,\\s*\\(\\?\\+\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ConcurrentMap<String, SqlStats> statsByFingerprint = new ConcurrentHashMap<>();
+    private final Cache<String, String> fingerprintsBySql;
+    private final long slowQueryThresholdNanos;
+    private final int maxFingerprints;
+
+    public SqlStatsListener(@Value("${app.sql.slow-query-threshold:500ms}") Duration slowQueryThreshold,
+                            @Value("${app.sql.max-fingerprints:1000}") int maxFingerprints,
+                            @Value("${app.sql.fingerprint-cache-size:10000}") long fingerprintCacheSize) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.fingerprintsBySql = Caffeine.newBuilder()
+                .maximumSize(fingerprintCacheSize)
+                .build();
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        // Fires for every fetched record, eager or lazy, unlike ctx.result()
+        if (ctx.data(FETCHED_ROWS) instanceof long[] fetched) {
+            fetched[0]++;
+        } else {
+            ctx.data(FETCHED_ROWS, new long[]{1});
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        // end() fires after the result is consumed, so lazy cursors include their fetch time
+        if (!(ctx.data(START_NANOS) instanceof Long startNanos) || ctx.sql() == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long rows = ctx.rows() >= 0 ? ctx.rows() : ctx.data(FETCHED_ROWS) instanceof long[] fetched ? fetched[0] : 0;
+
+        String fingerprint = fingerprintsBySql.get(ctx.sql(), SqlStatsListener::fingerprint);
+        String key = fingerprint;
+        SqlStats stats = statsByFingerprint.get(key);
+        if (stats == null) {
+            key = statsByFingerprint.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            stats = statsByFingerprint.computeIfAbsent(key, k -> new SqlStats());
+        }
+        stats.record(elapsedNanos, rows);
+
+        // <other> mixes many statements, so each slow one is logged rather than just the first
+        if (elapsedNanos >= slowQueryThresholdNanos
+                && (OTHER_FINGERPRINT.equals(key) || stats.slowLogged.compareAndSet(false, true))) {
+            log.warn("Slow query took {} ms: {} binds={}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    fingerprint, redactedBinds(ctx));
+        }
+    }
+
+    /**
+     * Returns the statistics for every fingerprint, slowest total time first.
+     */
+    public List<SqlStatsSnapshot> snapshot() {
+        return statsByFingerprint.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SqlStatsSnapshot::totalMs).reversed())
+                .toList();
+    }
+
+    private static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = BIND_GROUP.matcher(normalized).replaceAll("(?+)");
+        return REPEATED_GROUPS.matcher(normalized).replaceAll("(?+), ...");
+    }
+
+    private static List<String> redactedBinds(ExecuteContext ctx) {
+        if (ctx.query() == null) {
+            return List.of();
+        }
+        return ctx.query().getBindValues().stream()
+                .map(value -> value == null ? "<null>" : "<" + value.getClass().getSimpleName() + ">")
+                .toList();
+    }
+
+    /**
+     * Point-in-time statistics for one statement fingerprint.
+     */
+    public record SqlStatsSnapshot(String fingerprint, long calls, double totalMs, double meanMs, double maxMs,
+                                   long rows) {
+    }
+
+    private static final class SqlStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final AtomicBoolean slowLogged = new AtomicBoolean();
+
+        void record(long elapsedNanos, long rowCount) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            rows.add(rowCount);
+        }
+
+        SqlStatsSnapshot snapshot(String fingerprint) {
+            long callCount = calls.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new SqlStatsSnapshot(fingerprint, callCount, totalMs,
+                    callCount > 0 ? totalMs / callCount : 0, maxNanos.get() / 1_000_000.0, rows.sum());
+        }
+    }
+}
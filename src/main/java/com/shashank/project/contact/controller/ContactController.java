@@ -1,5 +1,8 @@
 package com.shashank.project.contact.controller;
 
+import com.shashank.project.common.BatchGetRequestDTO;
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.ETags;
 import com.shashank.project.contact.dto.request.ContactCreateRequestDTO;
 import com.shashank.project.contact.dto.request.ContactUpdateRequestDTO;
 import com.shashank.project.contact.dto.response.ContactCreateResponseDTO;
@@ -9,10 +12,12 @@ import com.shashank.project.contact.service.ContactIService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -27,20 +32,44 @@ public class ContactController {
     public ResponseEntity<ContactCreateResponseDTO> createContact(
             @Valid @RequestBody ContactCreateRequestDTO request) {
         ContactCreateResponseDTO response = contactIService.createContact(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        HttpStatus status = contactIService.isWriteBehind() ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ContactGetResponseDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<ContactGetResponseDTO> getById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = contactIService.getETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
+
         ContactGetResponseDTO response = contactIService.getById(id);
+        if (response == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response.getId(), response.getVersion()))
+                .body(response);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResponseDTO<ContactGetResponseDTO>> batchGet(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        BatchGetResponseDTO<ContactGetResponseDTO> response = contactIService.batchGet(request.getIds());
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/update/{id}")
-    public ResponseEntity<ContactUpdateResponseDTO> update(@PathVariable UUID id, @RequestBody ContactUpdateRequestDTO request) {
-        ContactUpdateResponseDTO response = contactIService.updateContact(request, id);
+    public ResponseEntity<ContactUpdateResponseDTO> update(@PathVariable UUID id, @RequestBody ContactUpdateRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ContactUpdateResponseDTO response = contactIService.updateContact(request, id, ifMatch);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, response.getVersion()))
+                .body(response);
     }
 
 }
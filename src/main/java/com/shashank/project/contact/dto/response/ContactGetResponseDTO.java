@@ -23,6 +23,7 @@ public class ContactGetResponseDTO {
     private OffsetDateTime updatedOn;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long version;
 
 
 }
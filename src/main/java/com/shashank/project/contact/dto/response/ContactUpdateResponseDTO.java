@@ -16,5 +16,6 @@ public class ContactUpdateResponseDTO {
     private UUID id;
     private String message;
     private Boolean isActive;
+    private Long version;
 
 }
@@ -0,0 +1,235 @@
+package com.shashank.project.contact.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shashank.project.common.MappedJournal;
+import com.shashank.project.contact.repository.ContactRepository;
+import com.shashank.project.db.jooq.tables.pojos.Contact;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind buffer for contact submissions.
+ * <p>
+ * {@link #submit(Contact)} appends the contact to a durable {@link MappedJournal} and
+ * returns once it is on disk, without touching the connection pool. A background worker
+ * drains the journal into Postgres with multi-row inserts of up to {@code batchSize}
+ * contacts every {@code flushInterval}. Inserts skip existing IDs, so contacts that were
+ * written but not yet acknowledged when the process stopped are simply replayed on the
+ * next start. On shutdown, after the web server has stopped taking requests, the journal
+ * is drained for up to {@code drainTimeout}; anything left over is replayed later.
+ * <p>
+ * A batch that fails is retried row by row: rows rejected by the database as invalid are
+ * dropped and logged, while any other failure leaves the rows journaled for the next run.
+ * Backlog and throughput are published as {@code contact.ingest.pending},
+ * {@code contact.ingest.flushed} and {@code contact.ingest.dropped}.
+ */
+@Slf4j
+public class ContactIngestionBuffer implements SmartLifecycle {
+
+    private final MappedJournal journal;
+    private final ContactRepository contactRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration drainTimeout;
+
+    private final Counter flushed;
+    private final Counter dropped;
+
+    private ScheduledExecutorService worker;
+    private volatile boolean running;
+
+    public ContactIngestionBuffer(MappedJournal journal,
+                                  ContactRepository contactRepository,
+                                  ObjectMapper objectMapper,
+                                  int batchSize,
+                                  Duration flushInterval,
+                                  Duration drainTimeout,
+                                  MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.contactRepository = contactRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = flushInterval;
+        this.drainTimeout = drainTimeout;
+
+        Gauge.builder("contact.ingest.pending", journal, MappedJournal::pendingRecords)
+                .description("Contact submissions journaled but not yet written to the database")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("contact.ingest.flushed")
+                .description("Contact submissions written to the database")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("contact.ingest.dropped")
+                .description("Contact submissions discarded because they could not be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Durably accepts a contact for asynchronous insertion.
+     *
+     * @param contact The contact to insert, with its ID and creation time already assigned
+     * @throws IllegalStateException if the buffer is not running
+     */
+    public void submit(Contact contact) {
+        if (!running) {
+            throw new IllegalStateException("Contact ingestion is not accepting submissions");
+        }
+        JournalEntry entry = new JournalEntry(contact.getId(), contact.getName(), contact.getEmail(),
+                contact.getMobileNumber(), contact.getCreatedOn());
+        try {
+            journal.append(objectMapper.writeValueAsBytes(entry));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to serialize contact " + contact.getId(), ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        long pending = journal.pendingRecords();
+        if (pending > 0) {
+            log.info("Replaying {} journaled contact submissions", pending);
+        }
+        worker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("contact-ingest-"));
+        worker.scheduleWithFixedDelay(this::flush, 0, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        // One deadline covers both stopping the worker and the final drain
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        running = false;
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                log.warn("Contact ingestion worker did not stop within {}", drainTimeout);
+                worker.shutdownNow();
+                return;
+            }
+            while (journal.pendingRecords() > 0 && System.nanoTime() < deadline && flushBatch()) {
+                // Drain until the journal is empty, the database fails or time runs out
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long pending = journal.pendingRecords();
+            if (pending > 0) {
+                log.warn("{} contact submissions remain journaled and will be replayed on the next start", pending);
+            }
+            try {
+                journal.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close the contact journal", ex);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server, which stops at DEFAULT_PHASE - 2048, so no submission arrives mid-drain
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flush() {
+        try {
+            while (flushBatch()) {
+                // Keep going while full batches are being written
+            }
+        } catch (RuntimeException ex) {
+            log.error("Contact ingestion flush failed", ex);
+        }
+    }
+
+    /**
+     * Writes the next batch and acknowledges it.
+     *
+     * @return true if a full batch was written and more may be pending
+     */
+    private boolean flushBatch() {
+        MappedJournal.Batch batch = journal.read(batchSize);
+        if (batch.records().isEmpty()) {
+            return false;
+        }
+
+        List<Contact> contacts = new ArrayList<>(batch.records().size());
+        for (byte[] record : batch.records()) {
+            try {
+                contacts.add(objectMapper.readValue(record, JournalEntry.class).toContact());
+            } catch (IOException ex) {
+                log.error("Dropping unreadable journaled contact submission", ex);
+                dropped.increment();
+            }
+        }
+
+        if (!write(contacts)) {
+            return false;
+        }
+        journal.acknowledge(batch);
+        return batch.records().size() == batchSize;
+    }
+
+    private boolean write(List<Contact> contacts) {
+        try {
+            contactRepository.saveAll(contacts);
+            flushed.increment(contacts.size());
+            return true;
+        } catch (DataAccessException ex) {
+            log.warn("Batch insert of {} journaled contacts failed, retrying row by row: {}",
+                    contacts.size(), ex.getMessage());
+        }
+
+        // Isolate the rows the database rejects so they cannot block the rest of the journal
+        for (Contact contact : contacts) {
+            try {
+                contactRepository.saveAll(List.of(contact));
+                flushed.increment();
+            } catch (DataIntegrityViolationException ex) {
+                log.error("Dropping journaled contact {} rejected by the database", contact.getId(), ex);
+                dropped.increment();
+            } catch (DataAccessException ex) {
+                log.warn("Failed to write journaled contacts, will retry", ex);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Journal format of a contact submission, kept separate from the generated entity so
+     * that schema changes do not break replay of older entries.
+     */
+    record JournalEntry(UUID id, String name, String email, String mobileNumber, OffsetDateTime createdOn) {
+
+        Contact toContact() {
+            return new Contact()
+                    .setId(id)
+                    .setName(name)
+                    .setEmail(email)
+                    .setMobileNumber(mobileNumber)
+                    .setIsActive(true)
+                    .setCreatedOn(createdOn);
+        }
+    }
+}
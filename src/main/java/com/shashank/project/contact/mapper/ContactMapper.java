@@ -23,6 +23,7 @@ public interface ContactMapper {
     @Mapping(target = "updatedOn", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", constant = "0L")
     Contact toEntity(ContactCreateRequestDTO request, UUID id);
 
     @Mapping(target = "id", source = "contact.id")
@@ -35,5 +36,6 @@ public interface ContactMapper {
     @Mapping(target = "id", source = "contact.id")
     @Mapping(target = "message", source = "message")
     @Mapping(target = "isActive", source = "contact.isActive")
+    @Mapping(target = "version", source = "contact.version")
     ContactUpdateResponseDTO toResponseUpdate(Contact contact, String message);
 }
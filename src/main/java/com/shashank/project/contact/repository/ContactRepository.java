@@ -2,15 +2,21 @@ package com.shashank.project.contact.repository;
 
 import com.shashank.project.db.jooq.tables.pojos.Contact;
 import com.shashank.project.db.jooq.tables.daos.ContactDao;
+import com.shashank.project.db.jooq.tables.records.ContactRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep6;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static com.shashank.project.db.jooq.Tables.CONTACT;
-import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.any;
 
 @Repository
 @RequiredArgsConstructor
@@ -26,12 +32,73 @@ public class ContactRepository {
 
     }
 
+    /**
+     * Inserts contacts with a single multi-row INSERT, skipping any whose ID already exists,
+     * so that replaying the same contacts is harmless.
+     *
+     * @param contacts The contacts to insert
+     * @return The number of contacts actually inserted
+     */
+    public int saveAll(List<Contact> contacts) {
+        if (contacts.isEmpty()) {
+            return 0;
+        }
+
+        InsertValuesStep6<ContactRecord, UUID, String, String, String, Boolean, OffsetDateTime> insert =
+                dslContext.insertInto(CONTACT, CONTACT.ID, CONTACT.NAME, CONTACT.EMAIL,
+                        CONTACT.MOBILE_NUMBER, CONTACT.IS_ACTIVE, CONTACT.CREATED_ON);
+        for (Contact contact : contacts) {
+            insert = insert.values(contact.getId(), contact.getName(), contact.getEmail(),
+                    contact.getMobileNumber(), contact.getIsActive(), contact.getCreatedOn());
+        }
+
+        return insert.onConflict(CONTACT.ID)
+                .doNothing()
+                .execute();
+    }
+
     public Contact findById(UUID id) {
 
         return contactDao.fetchOneById(id);
     }
 
-    public void update(Contact contact) {
-        contactDao.update(contact);
+    public Optional<Long> findVersion(UUID id) {
+        // Single column by primary key, for conditional requests
+        return dslContext.select(CONTACT.VERSION)
+                .from(CONTACT)
+                .where(CONTACT.ID.eq(id))
+                .fetchOptional(CONTACT.VERSION);
+    }
+
+    public List<Contact> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // One array bind instead of the DAO's IN (?, ?, ...) list
+        return dslContext.selectFrom(CONTACT)
+                .where(CONTACT.ID.eq(any(ids.toArray(UUID[]::new))))
+                .fetchInto(Contact.class);
+    }
+
+    /**
+     * Writes the editable fields of a contact if it still has the version it was read with,
+     * and increments the version.
+     *
+     * @param contact         The modified contact
+     * @param expectedVersion The version the contact was read with
+     * @return The updated contact, or empty if it was deleted or modified in the meantime
+     */
+    public Optional<Contact> update(Contact contact, long expectedVersion) {
+        return dslContext.update(CONTACT)
+                .set(CONTACT.NAME, contact.getName())
+                .set(CONTACT.EMAIL, contact.getEmail())
+                .set(CONTACT.MOBILE_NUMBER, contact.getMobileNumber())
+                .set(CONTACT.UPDATED_ON, OffsetDateTime.now())
+                .set(CONTACT.VERSION, CONTACT.VERSION.plus(1))
+                .where(CONTACT.ID.eq(contact.getId()))
+                .and(CONTACT.VERSION.eq(expectedVersion))
+                .returning()
+                .fetchOptionalInto(Contact.class);
     }
 }
@@ -1,11 +1,14 @@
 package com.shashank.project.contact.service;
 
+import com.shashank.project.common.BatchGetResponseDTO;
 import com.shashank.project.contact.dto.request.ContactCreateRequestDTO;
 import com.shashank.project.contact.dto.request.ContactUpdateRequestDTO;
 import com.shashank.project.contact.dto.response.ContactCreateResponseDTO;
 import com.shashank.project.contact.dto.response.ContactGetResponseDTO;
 import com.shashank.project.contact.dto.response.ContactUpdateResponseDTO;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ContactIService {
@@ -18,8 +21,41 @@ public interface ContactIService {
      */
     ContactCreateResponseDTO createContact(ContactCreateRequestDTO request);
 
+    /**
+     * Returns whether created contacts are journaled and written to the database later.
+     *
+     * @return true if {@link #createContact} only accepts the contact
+     */
+    boolean isWriteBehind();
+
     ContactGetResponseDTO getById(UUID id);
 
-    ContactUpdateResponseDTO updateContact(ContactUpdateRequestDTO request, UUID id);
+    /**
+     * Returns the current entity tag of a contact without loading the full record.
+     *
+     * @param id the contact ID
+     * @return the quoted entity tag, or empty if the contact doesn't exist
+     */
+    Optional<String> getETag(UUID id);
+
+    /**
+     * Retrieves many contacts by ID in a single query.
+     *
+     * @param ids the requested contact IDs; duplicates are ignored
+     * @return one result per distinct ID in request order
+     */
+    BatchGetResponseDTO<ContactGetResponseDTO> batchGet(List<UUID> ids);
+
+    /**
+     * Updates a contact if it has not changed since it was read.
+     *
+     * @param request the fields to update; null fields are left unchanged
+     * @param id      the contact ID
+     * @param ifMatch the If-Match header value, or null to update whatever version is current
+     * @return the update result with the new version
+     * @throws com.shashank.project.common.PreconditionFailedException if the contact no longer matches If-Match
+     * @throws com.shashank.project.common.ConcurrentUpdateException if the contact changed during the update
+     */
+    ContactUpdateResponseDTO updateContact(ContactUpdateRequestDTO request, UUID id, String ifMatch);
 
 }
@@ -1,10 +1,18 @@
 package com.shashank.project.contact.service.Imp;
 
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.BatchLoader;
+import com.shashank.project.common.ConcurrentUpdateException;
+import com.shashank.project.common.ETags;
+import com.shashank.project.common.EntityNotFoundException;
+import com.shashank.project.common.PreconditionFailedException;
+import com.shashank.project.common.SingleFlight;
 import com.shashank.project.contact.dto.request.ContactCreateRequestDTO;
 import com.shashank.project.contact.dto.request.ContactUpdateRequestDTO;
 import com.shashank.project.contact.dto.response.ContactCreateResponseDTO;
 import com.shashank.project.contact.dto.response.ContactGetResponseDTO;
 import com.shashank.project.contact.dto.response.ContactUpdateResponseDTO;
+import com.shashank.project.contact.ingest.ContactIngestionBuffer;
 import com.shashank.project.contact.mapper.ContactMapper;
 import com.shashank.project.contact.repository.ContactRepository;
 import com.shashank.project.contact.service.ContactIService;
@@ -14,6 +22,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,33 +37,75 @@ public class ContactServiceImpl implements ContactIService {
 
     private final ContactMapper contactMapper;
     private final ContactRepository contactRepository;
+    private final BatchLoader<UUID, Contact> contactBatchLoader;
+    private final Optional<ContactIngestionBuffer> ingestionBuffer;
+
+    private final SingleFlight<UUID, ContactGetResponseDTO> getByIdFlights = new SingleFlight<>();
 
-    @Transactional
     @Override
     public ContactCreateResponseDTO createContact(ContactCreateRequestDTO request) {
 
         UUID id = UUID.randomUUID();
         Contact contact = contactMapper.toEntity(request, id);
 
+        // No transaction: the direct path is one autocommit insert, and write-behind must not hold a connection
+        if (ingestionBuffer.isPresent()) {
+            ingestionBuffer.get().submit(contact);
+            return contactMapper.toResponse(contact, "Contact Accepted");
+        }
+
         contactRepository.save(contact);
 
         return contactMapper.toResponse(contact, "Contact Added Successfully");
 
     }
 
-    @Transactional
+    @Override
+    public boolean isWriteBehind() {
+        return ingestionBuffer.isPresent();
+    }
+
     @Override
     public ContactGetResponseDTO getById(UUID id) {
-        Contact contact = contactRepository.findById(id);
+        return getByIdFlights.execute(id, () -> {
+            Contact contact = contactBatchLoader.load(id).orElse(null);
+
+            return contactMapper.toResponseGet(contact);
+        });
+    }
 
-        return contactMapper.toResponseGet(contact);
+    @Override
+    public Optional<String> getETag(UUID id) {
+        return contactRepository.findVersion(id)
+                .map(version -> ETags.of(id, version));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public BatchGetResponseDTO<ContactGetResponseDTO> batchGet(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+
+        Map<UUID, ContactGetResponseDTO> byId = new HashMap<>();
+        for (Contact contact : contactRepository.findAllByIds(distinctIds)) {
+            byId.put(contact.getId(), contactMapper.toResponseGet(contact));
+        }
+
+        return BatchGetResponseDTO.of(distinctIds, byId);
     }
 
     @Transactional
     @Override
-    public ContactUpdateResponseDTO updateContact(ContactUpdateRequestDTO request, UUID id) {
+    public ContactUpdateResponseDTO updateContact(ContactUpdateRequestDTO request, UUID id, String ifMatch) {
 
         Contact contactExisting = contactRepository.findById(id);
+        if (contactExisting == null) {
+            throw new EntityNotFoundException("Contact", id);
+        }
+
+        long version = contactExisting.getVersion();
+        if (ifMatch != null && !ETags.matchesStrong(ifMatch, ETags.of(id, version))) {
+            throw new PreconditionFailedException("Contact", id);
+        }
 
         if(request.getName() != null) {
             contactExisting.setName(request.getName());
@@ -63,9 +119,13 @@ public class ContactServiceImpl implements ContactIService {
             contactExisting.setEmail(request.getEmail());
         }
 
-        contactRepository.update(contactExisting);
+        // Only write back over the version that was read, so a concurrent update is never lost
+        Contact contactUpdated = contactRepository.update(contactExisting, version)
+                .orElseThrow(() -> ifMatch != null
+                        ? new PreconditionFailedException("Contact", id)
+                        : new ConcurrentUpdateException("Contact", id));
 
-        return contactMapper.toResponseUpdate(contactExisting, "Contact Updated!");
+        return contactMapper.toResponseUpdate(contactUpdated, "Contact Updated!");
 
     }
 
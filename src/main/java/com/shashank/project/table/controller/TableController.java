@@ -1,5 +1,8 @@
 package com.shashank.project.table.controller;
 
+import com.shashank.project.common.BatchGetRequestDTO;
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.ETags;
 import com.shashank.project.table.dto.request.TableCreateRequestDTO;
 import com.shashank.project.table.dto.request.TableUpdateRequestDTO;
 import com.shashank.project.table.dto.response.TableCreateResponseDTO;
@@ -9,10 +12,12 @@ import com.shashank.project.table.service.TableIService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -31,15 +36,38 @@ public class TableController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TableGetResponseDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<TableGetResponseDTO> getById(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = tableIService.getETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
+
         TableGetResponseDTO response = tableIService.getById(id);
+        if (response == null) {
+            return ResponseEntity.ok(null);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response.getId(), response.getVersion()))
+                .body(response);
+    }
+
+    @PostMapping("/batch-get")
+    public ResponseEntity<BatchGetResponseDTO<TableGetResponseDTO>> batchGet(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        BatchGetResponseDTO<TableGetResponseDTO> response = tableIService.batchGet(request.getIds());
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<TableUpdateResponseDTO> updatedTable(@PathVariable UUID id, @RequestBody @Valid TableUpdateRequestDTO request) {
-        TableUpdateResponseDTO response = tableIService.update(id, request);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<TableUpdateResponseDTO> updatedTable(@PathVariable UUID id, @RequestBody @Valid TableUpdateRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TableUpdateResponseDTO response = tableIService.update(id, request, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, response.getVersion()))
+                .body(response);
     }
 
 
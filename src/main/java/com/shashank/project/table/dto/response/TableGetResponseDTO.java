@@ -24,5 +24,6 @@ public class TableGetResponseDTO {
     private OffsetDateTime updatedOn;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long version;
 
 }
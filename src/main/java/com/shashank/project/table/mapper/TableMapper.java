@@ -23,6 +23,7 @@ public interface TableMapper {
     @Mapping(target = "updatedOn", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", constant = "0L")
     Table toEntity(TableCreateRequestDTO request, UUID id);
 
     @Mapping(target = "id", source = "table.id")
@@ -4,16 +4,25 @@ import com.shashank.project.db.jooq.tables.pojos.Table;
 import com.shashank.project.db.jooq.tables.daos.TableDao;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static com.shashank.project.db.jooq.Tables.TABLE;
+import static org.jooq.impl.DSL.any;
+
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class TableRepository {
 
     private final TableDao tableDao;
+    private final DSLContext dslContext;
 
     public void save(Table table) {
         tableDao.insert(table);
@@ -23,8 +32,43 @@ public class TableRepository {
         return tableDao.fetchOneById(id);
     }
 
-    public void update(Table table){
-        tableDao.insert(table);
+    public Optional<Long> findVersion(UUID id) {
+        // Single column by primary key, for conditional requests
+        return dslContext.select(TABLE.VERSION)
+                .from(TABLE)
+                .where(TABLE.ID.eq(id))
+                .fetchOptional(TABLE.VERSION);
+    }
+
+    public List<Table> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // One array bind instead of the DAO's IN (?, ?, ...) list
+        return dslContext.selectFrom(TABLE)
+                .where(TABLE.ID.eq(any(ids.toArray(UUID[]::new))))
+                .fetchInto(Table.class);
+    }
+
+    /**
+     * Writes the editable fields of a table if it still has the version it was read with,
+     * and increments the version.
+     *
+     * @param table           The modified table
+     * @param expectedVersion The version the table was read with
+     * @return The updated table, or empty if it was deleted or modified in the meantime
+     */
+    public Optional<Table> update(Table table, long expectedVersion) {
+        return dslContext.update(TABLE)
+                .set(TABLE.EMAIL, table.getEmail())
+                .set(TABLE.MOBILE_NUMBER, table.getMobileNumber())
+                .set(TABLE.UPDATED_ON, OffsetDateTime.now())
+                .set(TABLE.VERSION, TABLE.VERSION.plus(1))
+                .where(TABLE.ID.eq(table.getId()))
+                .and(TABLE.VERSION.eq(expectedVersion))
+                .returning()
+                .fetchOptionalInto(Table.class);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.shashank.project.table.service;
 
+import com.shashank.project.common.BatchGetResponseDTO;
 import com.shashank.project.db.jooq.tables.pojos.Contact;
 import com.shashank.project.db.jooq.tables.pojos.Table;
 import com.shashank.project.table.dto.request.TableCreateRequestDTO;
@@ -8,6 +9,8 @@ import com.shashank.project.table.dto.response.TableCreateResponseDTO;
 import com.shashank.project.table.dto.response.TableGetResponseDTO;
 import com.shashank.project.table.dto.response.TableUpdateResponseDTO;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TableIService {
@@ -16,6 +19,10 @@ public interface TableIService {
 
     TableGetResponseDTO getById(UUID id);
 
-    TableUpdateResponseDTO update(UUID id, TableUpdateRequestDTO request);
+    Optional<String> getETag(UUID id);
+
+    BatchGetResponseDTO<TableGetResponseDTO> batchGet(List<UUID> ids);
+
+    TableUpdateResponseDTO update(UUID id, TableUpdateRequestDTO request, String ifMatch);
 
 }
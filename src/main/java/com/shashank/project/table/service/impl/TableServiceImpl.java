@@ -1,5 +1,12 @@
 package com.shashank.project.table.service.impl;
 
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.BatchLoader;
+import com.shashank.project.common.ConcurrentUpdateException;
+import com.shashank.project.common.ETags;
+import com.shashank.project.common.EntityNotFoundException;
+import com.shashank.project.common.PreconditionFailedException;
+import com.shashank.project.common.SingleFlight;
 import com.shashank.project.db.jooq.tables.pojos.Table;
 import com.shashank.project.table.dto.request.TableCreateRequestDTO;
 import com.shashank.project.table.dto.request.TableUpdateRequestDTO;
@@ -14,6 +21,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,6 +36,9 @@ public class TableServiceImpl implements TableIService {
 
     private final TableMapper tableMapper;
     private final TableRepository tableRepository;
+    private final BatchLoader<UUID, Table> tableBatchLoader;
+
+    private final SingleFlight<UUID, TableGetResponseDTO> getByIdFlights = new SingleFlight<>();
 
     @Override
     @Transactional
@@ -38,15 +54,45 @@ public class TableServiceImpl implements TableIService {
     @Override
     public TableGetResponseDTO getById(UUID id) {
 
-        Table table = tableRepository.getById(id);
+        return getByIdFlights.execute(id, () -> {
+            Table table = tableBatchLoader.load(id).orElse(null);
+
+            return tableMapper.toGetResponse(table);
+        });
+    }
+
+    @Override
+    public Optional<String> getETag(UUID id) {
+        return tableRepository.findVersion(id)
+                .map(version -> ETags.of(id, version));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BatchGetResponseDTO<TableGetResponseDTO> batchGet(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+
+        Map<UUID, TableGetResponseDTO> byId = new HashMap<>();
+        for (Table table : tableRepository.findAllByIds(distinctIds)) {
+            byId.put(table.getId(), tableMapper.toGetResponse(table));
+        }
 
-        return tableMapper.toGetResponse(table);
+        return BatchGetResponseDTO.of(distinctIds, byId);
     }
 
     @Override
-    public TableUpdateResponseDTO update(UUID id, TableUpdateRequestDTO request) {
+    @Transactional
+    public TableUpdateResponseDTO update(UUID id, TableUpdateRequestDTO request, String ifMatch) {
 
         Table tableExisting = tableRepository.getById(id);
+        if (tableExisting == null) {
+            throw new EntityNotFoundException("Table", id);
+        }
+
+        long version = tableExisting.getVersion();
+        if (ifMatch != null && !ETags.matchesStrong(ifMatch, ETags.of(id, version))) {
+            throw new PreconditionFailedException("Table", id);
+        }
 
         if(request.getMobileNumber() != null) {
             tableExisting.setMobileNumber(request.getMobileNumber());
@@ -56,8 +102,12 @@ public class TableServiceImpl implements TableIService {
             tableExisting.setEmail(request.getEmail());
         }
 
-        tableRepository.update(tableExisting);
+        // Only write back over the version that was read, so a concurrent update is never lost
+        Table tableUpdated = tableRepository.update(tableExisting, version)
+                .orElseThrow(() -> ifMatch != null
+                        ? new PreconditionFailedException("Table", id)
+                        : new ConcurrentUpdateException("Table", id));
 
-        return tableMapper.toUpdateEntity(tableExisting, "Table Updated Successfully!");
+        return tableMapper.toUpdateEntity(tableUpdated, "Table Updated Successfully!");
     }
 }
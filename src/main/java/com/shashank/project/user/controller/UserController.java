@@ -1,21 +1,42 @@
 package com.shashank.project.user.controller;
 
+import com.shashank.project.common.BatchGetRequestDTO;
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.ETags;
 import com.shashank.project.user.dto.request.*;
 import com.shashank.project.user.dto.response.*;
 import com.shashank.project.user.service.UserIService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for User operations.
@@ -32,55 +53,119 @@ public class UserController {
 
     private final UserIService userService;
 
+    @Value("${app.users.export.timeout:PT1H}")
+    private Duration exportTimeout;
+
     @PostMapping("/all")
     @Operation(summary = "Get all users", description = "Retrieve all users with pagination and optional filtering")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved users"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved users",
+                    content = @Content(schema = @Schema(implementation = GetAllUsersResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported field in fields"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<GetAllUsersResponseDTO> getAllUsers(
+    public ResponseEntity<MappingJacksonValue> getAllUsers(
             @RequestBody(required = false) GetAllUsersRequestDTO request) {
         log.info("Received request to get all users");
 
         if (request == null) {
             request = GetAllUsersRequestDTO.builder().build();
         }
+        Set<UserField> fields = UserField.parse(request.getFields());
 
         GetAllUsersResponseDTO response = userService.getAllUsers(request);
         log.info("Returning {} users", response.getUsers().size());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(withFields(response, fields));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export users", description = "Stream all users as NDJSON or CSV, optionally gzip-compressed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Export format (ndjson or csv)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Gzip-compress the export") @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest servletRequest) {
+        log.info("Received request to export users as {}, gzip: {}", format, gzip);
+        extendAsyncTimeout(servletRequest, exportTimeout);
+
+        UserExportFormat exportFormat = UserExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                // Sync flush lets the first row reach the client before the export completes
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, true);
+                userService.exportUsers(exportFormat, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                userService.exportUsers(exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + exportFormat.getFileExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve a specific user by their UUID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved user",
+                    content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "User not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Unsupported field in fields"),
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<UserResponseDTO> getUserById(
-            @Parameter(description = "User UUID") @PathVariable UUID id) {
+    public ResponseEntity<MappingJacksonValue> getUserById(
+            @Parameter(description = "User UUID") @PathVariable UUID id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name") @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Received request to get user by ID: {}", id);
+        Set<UserField> selectedFields = UserField.parse(fields);
+
+        if (ifNoneMatch != null) {
+            Optional<String> etag = userService.getUserETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                log.info("User with ID: {} not modified", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
 
         UserResponseDTO user = userService.getUserById(id);
         log.info("Returning user with ID: {}", id);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(user.getId(), user.getVersion()))
+                .body(withFields(user, selectedFields));
     }
 
     @GetMapping("/email/{email}")
     @Operation(summary = "Get user by email", description = "Retrieve a specific user by their email address")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved user",
+                    content = @Content(schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported field in fields"),
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<UserResponseDTO> getUserByEmail(
-            @Parameter(description = "User email") @PathVariable String email) {
+    public ResponseEntity<MappingJacksonValue> getUserByEmail(
+            @Parameter(description = "User email") @PathVariable String email,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,name") @RequestParam(required = false) String fields) {
         log.info("Received request to get user by email: {}", email);
+        Set<UserField> selectedFields = UserField.parse(fields);
 
         UserResponseDTO user = userService.getUserByEmail(email);
         log.info("Returning user with email: {}", email);
-        return ResponseEntity.ok(user);
+        return ResponseEntity.ok(withFields(user, selectedFields));
     }
 
     @PostMapping
@@ -89,6 +174,7 @@ public class UserController {
             @ApiResponse(responseCode = "201", description = "User created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request"),
             @ApiResponse(responseCode = "409", description = "User already exists"),
+            @ApiResponse(responseCode = "429", description = "Too many concurrent signups, retry later"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<UserCreateResponseDTO> createUser(
@@ -100,23 +186,60 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch-get")
+    @Operation(summary = "Batch get users", description = "Retrieve many users by ID in one request, in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users retrieved, missing IDs are marked not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BatchGetResponseDTO<UserResponseDTO>> batchGetUsers(
+            @Valid @RequestBody BatchGetRequestDTO request) {
+        log.info("Received request to batch get {} users", request.getIds().size());
+
+        BatchGetResponseDTO<UserResponseDTO> response = userService.batchGetUsers(request.getIds());
+        log.info("Batch get found {} of {} users", response.getFound(), response.getRequested());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create users", description = "Create many users in one request with per-item results; invalid items are reported as INVALID without failing the batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "429", description = "Hashing capacity saturated, retry later"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<UserBulkCreateResponseDTO> bulkCreateUsers(
+            @Valid @RequestBody UserBulkCreateRequestDTO request) {
+        log.info("Received request to bulk create {} users", request.getUsers().size());
+
+        UserBulkCreateResponseDTO response = userService.bulkCreateUsers(request);
+        log.info("Bulk created {} of {} users", response.getCreated(), response.getRequested());
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Update user", description = "Update an existing user")
+    @Operation(summary = "Update user", description = "Update an existing user, optionally only if it still matches If-Match")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request"),
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "409", description = "Email already exists"),
+            @ApiResponse(responseCode = "412", description = "User modified since the given ETag"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<UserUpdateResponseDTO> updateUser(
             @Parameter(description = "User UUID") @PathVariable UUID id,
-            @Valid @RequestBody UserUpdateRequestDTO request) {
+            @Valid @RequestBody UserUpdateRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Received request to update user with ID: {}", id);
 
-        UserUpdateResponseDTO response = userService.updateUser(id, request);
+        UserUpdateResponseDTO response = userService.updateUser(id, request, ifMatch);
         log.info("User updated with ID: {}", id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, response.getVersion()))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -166,5 +289,43 @@ public class UserController {
         log.info("User deactivated with ID: {}", id);
         return ResponseEntity.ok(response);
     }
-}
 
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Bulk change user status", description = "Activate or deactivate many users by id list or filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk status change processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<UserBulkStatusResponseDTO> bulkUpdateStatus(
+            @Valid @RequestBody UserBulkStatusRequestDTO request) {
+        log.info("Received request to bulk set active={}", request.getActive());
+
+        UserBulkStatusResponseDTO response = userService.bulkUpdateStatus(request);
+        log.info("Bulk status change updated {} users", response.getUpdated());
+        return ResponseEntity.ok(response);
+    }
+
+    private static MappingJacksonValue withFields(Object body, Set<UserField> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(UserField.filterProvider(fields));
+        return value;
+    }
+
+    /**
+     * Replaces the global async request timeout for this request only, so a long export is
+     * not cut off while other async endpoints keep the default.
+     */
+    private static void extendAsyncTimeout(HttpServletRequest request, Duration timeout) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("exportTimeout",
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        // Runs before the async request starts, while its timeout can still be changed
+                        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeout.toMillis());
+                        }
+                    }
+                });
+    }
+}
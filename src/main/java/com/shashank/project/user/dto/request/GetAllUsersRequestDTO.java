@@ -7,6 +7,13 @@ import lombok.NoArgsConstructor;
 
 /**
  * Request DTO for getting all users with pagination and filtering.
+ * <p>
+ * In {@link PaginationMode#CURSOR} mode {@code page} is ignored; the first page is
+ * requested without a cursor and subsequent pages pass back the {@code nextCursor}
+ * or {@code prevCursor} returned in the previous response.
+ * <p>
+ * {@code fields} optionally narrows the returned users to a comma-separated list of
+ * fields, e.g. {@code id,name}; see {@link UserField}.
  *
  * @author Shashank
  * @since 1.0.0
@@ -26,14 +33,63 @@ public class GetAllUsersRequestDTO {
     private String nameFilter;
     private String emailFilter;
 
+    @Builder.Default
+    private MatchStrategy matchStrategy = MatchStrategy.CONTAINS;
+
     @Builder.Default
     private SortDirection sortDirection = SortDirection.DESC;
 
+    @Builder.Default
+    private PaginationMode paginationMode = PaginationMode.OFFSET;
+
+    private String cursor;
+
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
+
+    private String fields;
+
+    /**
+     * Returns whether a non-blank name or email filter is set.
+     */
+    public boolean hasFilters() {
+        return (nameFilter != null && !nameFilter.isBlank())
+                || (emailFilter != null && !emailFilter.isBlank());
+    }
+
     /**
      * Sort direction enum for ordering results.
      */
     public enum SortDirection {
         ASC, DESC
     }
-}
 
+    /**
+     * Match strategy enum for the name and email filters.
+     * <p>
+     * All strategies are served by the trigram GIN indexes on name and email for
+     * filter values of at least three characters. SIMILARITY additionally ranks
+     * results by trigram similarity when paging by offset.
+     */
+    public enum MatchStrategy {
+        CONTAINS, PREFIX, SIMILARITY
+    }
+
+    /**
+     * Count mode enum for selecting how the total count is produced.
+     * <p>
+     * EXACT counts matching rows, ESTIMATED reads planner statistics and NONE skips
+     * the total entirely, leaving only {@code hasNext}. With cursor pagination only the
+     * first page is counted; pages requested with a cursor report NONE.
+     */
+    public enum CountMode {
+        EXACT, ESTIMATED, NONE
+    }
+
+    /**
+     * Pagination mode enum for selecting between page numbers and opaque cursors.
+     */
+    public enum PaginationMode {
+        OFFSET, CURSOR
+    }
+}
@@ -0,0 +1,30 @@
+package com.shashank.project.user.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating many users in one call.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkCreateRequestDTO {
+
+    public static final int MAX_USERS = 10000;
+
+    // Items are validated one by one in the service so a bad item fails alone
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = MAX_USERS, message = "At most " + MAX_USERS + " users can be created per request")
+    private List<UserCreateRequestDTO> users;
+}
@@ -0,0 +1,38 @@
+package com.shashank.project.user.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for activating or deactivating many users at once.
+ * <p>
+ * Exactly one of {@code ids} or {@code filter} must be given, and a filter must set a
+ * non-blank name or email filter. Only the name and email filters of {@code filter}
+ * are used; pagination fields are ignored.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkStatusRequestDTO {
+
+    public static final int MAX_IDS = 100000;
+
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be updated per request")
+    private List<UUID> ids;
+
+    private GetAllUsersRequestDTO filter;
+
+    @NotNull(message = "Active flag is required")
+    private Boolean active;
+}
@@ -0,0 +1,38 @@
+package com.shashank.project.user.dto.request;
+
+import com.shashank.project.common.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Output formats supported by the user export endpoint.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    /**
+     * Resolves a format from its case-insensitive name.
+     *
+     * @param value The format name, e.g. {@code ndjson} or {@code csv}
+     * @return The matching export format
+     * @throws ValidationException if the format is not supported
+     */
+    public static UserExportFormat from(String value) {
+        for (UserExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Unsupported export format: " + value);
+    }
+}
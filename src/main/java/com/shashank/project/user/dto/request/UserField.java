@@ -0,0 +1,84 @@
+package com.shashank.project.user.dto.request;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.shashank.project.common.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User fields that can be requested with a sparse fieldset, e.g. {@code fields=id,name}.
+ * <p>
+ * The password is deliberately not a field. The selection narrows both the columns
+ * read from the database and the properties written to JSON, through the
+ * {@value #FILTER_ID} Jackson filter on {@code UserResponseDTO}.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserField {
+
+    ID("id"),
+    NAME("name"),
+    EMAIL("email"),
+    MOBILE_NUMBER("mobileNumber"),
+    IS_ACTIVE("isActive"),
+    CREATED_ON("createdOn"),
+    UPDATED_ON("updatedOn"),
+    CREATED_BY("createdBy"),
+    UPDATED_BY("updatedBy"),
+    VERSION("version");
+
+    public static final String FILTER_ID = "userFields";
+
+    private final String jsonName;
+
+    /**
+     * Parses a comma-separated list of JSON field names.
+     *
+     * @param value The field list, e.g. {@code id,name}; null or blank selects all fields
+     * @return The selected fields, empty if all fields are selected
+     * @throws ValidationException if a field name is not supported
+     */
+    public static Set<UserField> parse(String value) {
+        Set<UserField> fields = EnumSet.noneOf(UserField.class);
+        if (value == null || value.isBlank()) {
+            return fields;
+        }
+        for (String name : value.split(",")) {
+            fields.add(fromJsonName(name.trim()));
+        }
+        return fields;
+    }
+
+    /**
+     * Builds a Jackson filter provider that writes only the selected user fields.
+     *
+     * @param fields The selected fields, or empty for all fields
+     * @return The filter provider for {@value #FILTER_ID}
+     */
+    public static FilterProvider filterProvider(Set<UserField> fields) {
+        SimpleBeanPropertyFilter filter = fields.isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields.stream()
+                        .map(UserField::getJsonName)
+                        .collect(Collectors.toSet()));
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+    }
+
+    private static UserField fromJsonName(String name) {
+        for (UserField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+        throw new ValidationException("Unsupported user field: " + name);
+    }
+}
@@ -1,5 +1,6 @@
 package com.shashank.project.user.dto.response;
 
+import com.shashank.project.user.dto.request.GetAllUsersRequestDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -33,22 +34,50 @@ public class GetAllUsersResponseDTO {
         private Integer pageSize;
         private Integer totalCount;
         private Integer totalPages;
+        private GetAllUsersRequestDTO.CountMode countMode;
+        private Boolean hasNext;
+        private String nextCursor;
+        private String prevCursor;
     }
 
     /**
      * Factory method to create a paginated response.
      */
-    public static GetAllUsersResponseDTO of(List<UserResponseDTO> users, Integer totalCount, Integer page, Integer pageSize) {
-        int totalPages = (int) Math.ceil((double) totalCount / pageSize);
+    public static GetAllUsersResponseDTO of(List<UserResponseDTO> users, Integer totalCount, GetAllUsersRequestDTO.CountMode countMode,
+                                            Boolean hasNext, Integer page, Integer pageSize) {
         return GetAllUsersResponseDTO.builder()
                 .users(users)
                 .pagination(PaginationMetadataDTO.builder()
                         .page(page)
                         .pageSize(pageSize)
                         .totalCount(totalCount)
-                        .totalPages(totalPages)
+                        .totalPages(totalPages(totalCount, pageSize))
+                        .countMode(countMode)
+                        .hasNext(hasNext)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Factory method to create a cursor-paginated response.
+     */
+    public static GetAllUsersResponseDTO ofCursor(List<UserResponseDTO> users, Integer totalCount, GetAllUsersRequestDTO.CountMode countMode,
+                                                  Integer pageSize, String nextCursor, String prevCursor) {
+        return GetAllUsersResponseDTO.builder()
+                .users(users)
+                .pagination(PaginationMetadataDTO.builder()
+                        .pageSize(pageSize)
+                        .totalCount(totalCount)
+                        .totalPages(totalPages(totalCount, pageSize))
+                        .countMode(countMode)
+                        .hasNext(nextCursor != null)
+                        .nextCursor(nextCursor)
+                        .prevCursor(prevCursor)
                         .build())
                 .build();
     }
-}
 
+    private static Integer totalPages(Integer totalCount, Integer pageSize) {
+        return totalCount != null ? (int) Math.ceil((double) totalCount / pageSize) : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.shashank.project.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for bulk user creation.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkCreateResponseDTO {
+    private List<ItemResultDTO> results;
+    private Integer requested;
+    private Integer created;
+    private Integer failed;
+    private Long durationMs;
+    private Double usersPerSecond;
+
+    /**
+     * Outcome for a single user in the bulk request, in request order.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResultDTO {
+        private Integer index;
+        private String email;
+        private UUID id;
+        private ItemStatus status;
+        private String message;
+    }
+
+    /**
+     * Status enum for a single bulk item.
+     */
+    public enum ItemStatus {
+        CREATED, INVALID, ALREADY_EXISTS, DUPLICATE_IN_REQUEST
+    }
+}
@@ -0,0 +1,28 @@
+package com.shashank.project.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for bulk user status change.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkStatusResponseDTO {
+    private String status;
+    private Integer updated;
+    private Integer unchanged;
+    private Integer missing;
+    private List<UUID> missingIds;
+    private Long durationMs;
+}
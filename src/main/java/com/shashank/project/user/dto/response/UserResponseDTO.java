@@ -1,5 +1,7 @@
 package com.shashank.project.user.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.shashank.project.user.dto.request.UserField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +20,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(UserField.FILTER_ID)
 public class UserResponseDTO {
     private UUID id;
     private String name;
@@ -28,5 +31,6 @@ public class UserResponseDTO {
     private OffsetDateTime updatedOn;
     private UUID createdBy;
     private UUID updatedBy;
+    private Long version;
 }
 
@@ -21,5 +21,6 @@ public class UserUpdateResponseDTO {
     private UUID id;
     private String message;
     private Boolean success;
+    private Long version;
 }
 
@@ -39,6 +39,7 @@ public interface UserMapper {
     @Mapping(target = "updatedOn", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", constant = "0L")
     User toEntity(UserCreateRequestDTO request, UUID id, String encodedPassword);
 
     /**
@@ -71,6 +72,7 @@ public interface UserMapper {
     @Mapping(target = "id", source = "user.id")
     @Mapping(target = "message", source = "message")
     @Mapping(target = "success", constant = "true")
+    @Mapping(target = "version", source = "user.version")
     UserUpdateResponseDTO toUpdateResponse(User user, String message);
 
     /**
@@ -0,0 +1,145 @@
+package com.shashank.project.user.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shashank.project.db.jooq.tables.pojos.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache for user lookups by ID and by email.
+ * <p>
+ * Users are cached by ID; the email cache only maps an email to an ID and is
+ * verified against the ID cache on every hit, so invalidating a user by ID is
+ * enough to make both lookups miss. Missing users are not cached. Hit, miss and
+ * eviction counts are published as {@code cache.*} metrics.
+ *
+ * @author Shashank
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final Cache<UUID, User> usersById;
+    private final Cache<String, UUID> idsByEmail;
+
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${app.users.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${app.users.cache.ttl:PT5M}") Duration ttl) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "users.by-email");
+    }
+
+    /**
+     * Returns the user with the given ID, loading and caching it on a miss.
+     * <p>
+     * Concurrent misses for the same ID share a single load, and an invalidation
+     * racing with a load waits for it so the stale value is not left behind.
+     *
+     * @param id     The user ID
+     * @param loader Loads the user from the database on a miss
+     * @return Optional containing the User entity, or empty if not found
+     */
+    public Optional<User> findById(UUID id, Function<UUID, Optional<User>> loader) {
+        User user = usersById.get(id, key -> loader.apply(key).orElse(null));
+        if (user != null) {
+            idsByEmail.put(user.getEmail(), user.getId());
+        }
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Returns the user with the given ID if it is currently cached, without loading it.
+     *
+     * @param id The user ID
+     * @return Optional containing the cached User entity, or empty on a miss
+     */
+    public Optional<User> getIfPresent(UUID id) {
+        return Optional.ofNullable(usersById.getIfPresent(id));
+    }
+
+    /**
+     * Returns the user with the given email, loading and caching it on a miss.
+     * <p>
+     * The email is resolved to an ID and the user is loaded through {@link #findById},
+     * so a load racing with an invalidation cannot cache a stale row either.
+     *
+     * @param email    The user email
+     * @param idLoader Resolves the user ID from the database on a miss
+     * @param loader   Loads the user by ID from the database on a miss
+     * @return Optional containing the User entity, or empty if not found
+     */
+    public Optional<User> findByEmail(String email,
+                                      Function<String, Optional<UUID>> idLoader,
+                                      Function<UUID, Optional<User>> loader) {
+        UUID id = idsByEmail.getIfPresent(email);
+        boolean resolved = false;
+        if (id == null) {
+            id = idLoader.apply(email).orElse(null);
+            resolved = true;
+        }
+
+        while (id != null) {
+            Optional<User> user = findById(id, loader);
+            if (user.isPresent() && email.equals(user.get().getEmail())) {
+                return user;
+            }
+            // The cached mapping is stale: the email changed or the user was deleted
+            idsByEmail.invalidate(email);
+            if (resolved) {
+                break;
+            }
+            id = idLoader.apply(email).orElse(null);
+            resolved = true;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Evicts the user with the given ID now and, if a transaction is active, again
+     * after it commits so that a read racing with the write cannot re-cache the old row.
+     *
+     * @param id The user ID
+     */
+    public void invalidate(UUID id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    private void evict(UUID id) {
+        User evicted = usersById.asMap().remove(id);
+        if (evicted != null) {
+            idsByEmail.invalidate(evicted.getEmail());
+        }
+        log.debug("Evicted user with ID: {} from cache", id);
+    }
+}
@@ -0,0 +1,65 @@
+package com.shashank.project.user.repository;
+
+import com.shashank.project.common.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position within the user listing.
+ * <p>
+ * A cursor points at the {@code (created_on, id)} key of a boundary row and records
+ * whether the next page lies after it or before it. It is handed to clients as an
+ * opaque URL-safe token.
+ *
+ * @param createdOn The created_on value of the boundary row
+ * @param id        The id of the boundary row, used as a tie-breaker
+ * @param direction Whether to read the rows after or before the boundary row
+ * @author Shashank
+ * @since 1.0.0
+ */
+public record UserCursor(OffsetDateTime createdOn, UUID id, Direction direction) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Direction in which a cursor moves through the listing.
+     */
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return URL-safe token representing this cursor
+     */
+    public String encode() {
+        String raw = direction.name() + SEPARATOR + createdOn + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The opaque cursor token
+     * @return The decoded cursor
+     * @throws ValidationException if the token is malformed
+     */
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new ValidationException("Invalid cursor: " + token);
+            }
+            return new UserCursor(OffsetDateTime.parse(parts[1]), UUID.fromString(parts[2]), Direction.valueOf(parts[0]));
+        } catch (ValidationException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new ValidationException("Invalid cursor: " + token, ex);
+        }
+    }
+}
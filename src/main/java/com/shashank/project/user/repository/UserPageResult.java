@@ -0,0 +1,16 @@
+package com.shashank.project.user.repository;
+
+import com.shashank.project.db.jooq.tables.pojos.User;
+
+import java.util.List;
+
+/**
+ * A page of users together with the total number of users matching the same criteria.
+ *
+ * @param users      The users on the page
+ * @param totalCount The total number of matching users, or null if it could not be derived from the page
+ * @author Shashank
+ * @since 1.0.0
+ */
+public record UserPageResult(List<User> users, Integer totalCount) {
+}
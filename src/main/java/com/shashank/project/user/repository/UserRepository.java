@@ -1,22 +1,48 @@
 package com.shashank.project.user.repository;
 
-import com.shashank.project.db.jooq.tables.daos.UserDao;
 import com.shashank.project.db.jooq.tables.pojos.User;
+import com.shashank.project.db.jooq.tables.records.UserRecord;
 import com.shashank.project.user.dto.request.GetAllUsersRequestDTO;
+import com.shashank.project.user.dto.request.UserField;
+import com.shashank.project.user.dto.request.UserUpdateRequestDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep7;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SelectFieldOrAsterisk;
 import org.jooq.SortField;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.shashank.project.db.jooq.Tables.USER;
+import static org.jooq.impl.DSL.any;
+import static org.jooq.impl.DSL.condition;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
 
 /**
  * Repository for User entity database operations.
@@ -32,26 +58,48 @@ import static org.jooq.impl.DSL.noCondition;
 @Slf4j
 public class UserRepository {
 
-    private final UserDao userDao;
+    private static final char LIKE_ESCAPE = '!';
+
+    private static final List<Field<?>> PUBLIC_FIELDS = List.of(
+            USER.ID, USER.NAME, USER.EMAIL, USER.MOBILE_NUMBER, USER.IS_ACTIVE,
+            USER.CREATED_ON, USER.UPDATED_ON, USER.CREATED_BY, USER.UPDATED_BY, USER.VERSION);
+
     private final DSLContext dslContext;
 
     // ========================================
-    // CRUD OPERATIONS (using DAO)
+    // CRUD OPERATIONS
     // ========================================
 
     /**
-     * Saves a new user to the database.
+     * Saves a new user to the database unless the email is already taken.
+     * <p>
+     * Runs as a single {@code INSERT ... ON CONFLICT (email) DO NOTHING RETURNING id},
+     * so concurrent signups for the same email cannot both succeed and the loser is
+     * told without a constraint violation.
      *
      * @param user The User entity to save
+     * @return true if the user was inserted, false if the email already exists
      */
-    public void save(User user) {
+    @Transactional
+    public boolean saveIfEmailAbsent(User user) {
         log.debug("Saving user with ID: {}", user.getId());
-        userDao.insert(user);
-        log.info("Successfully saved user with ID: {}", user.getId());
+
+        boolean inserted = dslContext.insertInto(USER)
+                .set(dslContext.newRecord(USER, user))
+                .onConflict(USER.EMAIL)
+                .doNothing()
+                .returningResult(USER.ID)
+                .fetchOptional()
+                .isPresent();
+
+        if (inserted) {
+            log.info("Successfully saved user with ID: {}", user.getId());
+        }
+        return inserted;
     }
 
     /**
-     * Fetches a user by their ID.
+     * Fetches a user by their ID, without the password column.
      *
      * @param id The user ID
      * @return Optional containing the User entity, or empty if not found
@@ -59,53 +107,287 @@ public class UserRepository {
     @Transactional(readOnly = true)
     public Optional<User> findById(UUID id) {
         log.debug("Fetching user by ID: {}", id);
-        return userDao.fetchOptionalById(id);
+        return dslContext.select(PUBLIC_FIELDS)
+                .from(USER)
+                .where(USER.ID.eq(id))
+                .fetchOptionalInto(User.class);
     }
 
     /**
-     * Fetches a user by their email.
+     * Resolves a user's ID from their email.
+     * <p>
+     * Reads the primary: the mapping is cached, so a lagging replica could otherwise pin a
+     * just-created user as missing or point an email at a stale ID.
      *
      * @param email The user email
-     * @return Optional containing the User entity, or empty if not found
+     * @return Optional containing the user ID, or empty if not found
      */
-    @Transactional(readOnly = true)
-    public Optional<User> findByEmail(String email) {
-        log.debug("Fetching user by email: {}", email);
-        return userDao.fetchOptionalByEmail(email);
+    @Transactional
+    public Optional<UUID> findIdByEmail(String email) {
+        log.debug("Resolving user ID by email: {}", email);
+        return dslContext.select(USER.ID)
+                .from(USER)
+                .where(USER.EMAIL.eq(email))
+                .fetchOptional(USER.ID);
+    }
+
+    /**
+     * Updates the given fields of a user in a single statement and returns the updated row.
+     * <p>
+     * Only non-null fields of the request are written, so untouched columns such as the
+     * password hash are not rewritten. The version is incremented, and when an expected
+     * version is given the row is only updated if it still has that version.
+     *
+     * @param id              The user ID
+     * @param request         The fields to update; null fields are left unchanged
+     * @param expectedVersion The version the caller read, or null to update unconditionally
+     * @return Optional containing the updated User entity, or empty if not found or the version differs
+     */
+    @Transactional
+    public Optional<User> update(UUID id, UserUpdateRequestDTO request, Long expectedVersion) {
+        log.debug("Updating user with ID: {}", id);
+
+        Map<Field<?>, Object> changes = new LinkedHashMap<>();
+        if (request.getName() != null) {
+            changes.put(USER.NAME, request.getName());
+        }
+        if (request.getEmail() != null) {
+            changes.put(USER.EMAIL, request.getEmail());
+        }
+        if (request.getMobileNumber() != null) {
+            changes.put(USER.MOBILE_NUMBER, request.getMobileNumber());
+        }
+        if (request.getIsActive() != null) {
+            changes.put(USER.IS_ACTIVE, request.getIsActive());
+        }
+        changes.put(USER.UPDATED_ON, OffsetDateTime.now());
+        changes.put(USER.VERSION, USER.VERSION.plus(1));
+
+        Optional<User> updated = dslContext.update(USER)
+                .set(changes)
+                .where(USER.ID.eq(id))
+                .and(expectedVersion != null ? USER.VERSION.eq(expectedVersion) : noCondition())
+                .returning(PUBLIC_FIELDS)
+                .fetchOptionalInto(User.class);
+
+        updated.ifPresent(user -> log.info("Successfully updated user with ID: {}", id));
+        return updated;
     }
 
     /**
-     * Updates an existing user in the database.
+     * Sets the active flag of a user in a single statement and returns the updated row.
      *
-     * @param user The User entity to update
+     * @param id     The user ID
+     * @param active The new active flag
+     * @return Optional containing the updated User entity, or empty if not found
      */
-    public void update(User user) {
-        log.debug("Updating user with ID: {}", user.getId());
-        userDao.update(user);
-        log.info("Successfully updated user with ID: {}", user.getId());
+    @Transactional
+    public Optional<User> updateStatus(UUID id, boolean active) {
+        log.debug("Setting active={} for user with ID: {}", active, id);
+
+        Optional<User> updated = dslContext.update(USER)
+                .set(USER.IS_ACTIVE, active)
+                .set(USER.UPDATED_ON, OffsetDateTime.now())
+                .set(USER.VERSION, USER.VERSION.plus(1))
+                .where(USER.ID.eq(id))
+                .returning(PUBLIC_FIELDS)
+                .fetchOptionalInto(User.class);
+
+        updated.ifPresent(user -> log.info("Successfully set active={} for user with ID: {}", active, id));
+        return updated;
     }
 
     /**
-     * Deletes a user by their ID.
+     * Deletes a user by their ID in a single statement and returns the deleted row.
      *
      * @param id The user ID to delete
+     * @return Optional containing the deleted User entity, or empty if not found
      */
-    public void deleteById(UUID id) {
+    @Transactional
+    public Optional<User> deleteById(UUID id) {
         log.debug("Deleting user with ID: {}", id);
-        userDao.deleteById(id);
-        log.info("Successfully deleted user with ID: {}", id);
+
+        Optional<User> deleted = dslContext.deleteFrom(USER)
+                .where(USER.ID.eq(id))
+                .returning(PUBLIC_FIELDS)
+                .fetchOptionalInto(User.class);
+
+        deleted.ifPresent(user -> log.info("Successfully deleted user with ID: {}", id));
+        return deleted;
+    }
+
+    // ========================================
+    // BULK OPERATIONS (using DSLContext)
+    // ========================================
+
+    /**
+     * Finds which of the given emails already belong to a user, in a single query.
+     *
+     * @param emails The emails to check
+     * @return The subset of emails that already exist
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        log.debug("Checking {} emails for existing users", emails.size());
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(dslContext.select(USER.EMAIL)
+                .from(USER)
+                .where(USER.EMAIL.eq(any(emails.toArray(String[]::new))))
+                .fetch(USER.EMAIL));
+    }
+
+    /**
+     * Inserts users with a single multi-row INSERT, skipping any whose email is already taken.
+     *
+     * @param users The User entities to insert
+     * @return The IDs of the users that were actually inserted
+     */
+    @Transactional
+    public Set<UUID> saveAll(List<User> users) {
+        log.debug("Saving batch of {} users", users.size());
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+
+        InsertValuesStep7<UserRecord, UUID, String, String, String, String, Boolean, OffsetDateTime> insert =
+                dslContext.insertInto(USER, USER.ID, USER.NAME, USER.EMAIL, USER.PASSWORD,
+                        USER.MOBILE_NUMBER, USER.IS_ACTIVE, USER.CREATED_ON);
+        for (User user : users) {
+            insert = insert.values(user.getId(), user.getName(), user.getEmail(), user.getPassword(),
+                    user.getMobileNumber(), user.getIsActive(), user.getCreatedOn());
+        }
+
+        Set<UUID> inserted = new HashSet<>(insert
+                .onConflict(USER.EMAIL)
+                .doNothing()
+                .returningResult(USER.ID)
+                .fetch(USER.ID));
+        log.info("Successfully saved {} of {} users in batch", inserted.size(), users.size());
+        return inserted;
+    }
+
+    /**
+     * Sets the active flag for the given users in a single statement.
+     * <p>
+     * Users already in the requested state are not rewritten. Callers should keep the
+     * id list to a modest chunk so that row locks are held only briefly.
+     *
+     * @param ids    The user IDs to update
+     * @param active The new active flag
+     * @return The IDs of the users whose flag actually changed
+     */
+    @Transactional
+    public List<UUID> updateStatusByIds(Collection<UUID> ids, boolean active) {
+        log.debug("Setting active={} for batch of {} users", active, ids.size());
+
+        return dslContext.update(USER)
+                .set(USER.IS_ACTIVE, active)
+                .set(USER.UPDATED_ON, OffsetDateTime.now())
+                .set(USER.VERSION, USER.VERSION.plus(1))
+                .where(USER.ID.eq(any(ids.toArray(UUID[]::new))))
+                .and(USER.IS_ACTIVE.ne(active))
+                .returningResult(USER.ID)
+                .fetch(USER.ID);
+    }
+
+    /**
+     * Finds the current version of a user.
+     * <p>
+     * Reads a single column by primary key, for answering conditional requests
+     * without loading the full row. Not read-only, so it is never answered by a lagging
+     * replica that would still match a tag from before the last update.
+     *
+     * @param id The user ID
+     * @return Optional containing the version, or empty if the user doesn't exist
+     */
+    @Transactional
+    public Optional<Long> findVersion(UUID id) {
+        return dslContext.select(USER.VERSION)
+                .from(USER)
+                .where(USER.ID.eq(id))
+                .fetchOptional(USER.VERSION);
+    }
+
+    /**
+     * Finds users by IDs in a single = ANY(?) query, excluding the password column.
+     *
+     * @param ids The user IDs to fetch
+     * @return The users that exist, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<User> findAllByIds(Collection<UUID> ids) {
+        log.debug("Fetching {} users by id", ids.size());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return dslContext.select(PUBLIC_FIELDS)
+                .from(USER)
+                .where(USER.ID.eq(any(ids.toArray(UUID[]::new))))
+                .fetchInto(User.class);
+    }
+
+    /**
+     * Finds users by IDs like {@link #findAllByIds}, but always from the primary.
+     * <p>
+     * Used to fill the user cache: a fill served by a lagging replica right after an
+     * update would re-cache the old row for the whole cache TTL.
+     *
+     * @param ids The user IDs to fetch
+     * @return The users that exist, in no particular order
+     */
+    @Transactional
+    public List<User> findAllByIdsFromPrimary(Collection<UUID> ids) {
+        return findAllByIds(ids);
     }
 
     /**
-     * Checks if a user exists with the given email.
+     * Finds which of the given IDs belong to an existing user, in a single query.
      *
-     * @param email The email to check
-     * @return true if a user exists with this email, false otherwise
+     * @param ids The user IDs to check
+     * @return The subset of IDs that exist
+     */
+    @Transactional(readOnly = true)
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        log.debug("Checking {} ids for existing users", ids.size());
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(dslContext.select(USER.ID)
+                .from(USER)
+                .where(USER.ID.eq(any(ids.toArray(UUID[]::new))))
+                .fetch(USER.ID));
+    }
+
+    /**
+     * Finds the IDs of users matching the filter criteria, in ID order, after the given ID.
+     *
+     * @param request The request containing filter criteria
+     * @param afterId The last ID of the previous chunk, or null for the first chunk
+     * @param limit   Maximum number of IDs to return
+     * @return List of matching user IDs
      */
     @Transactional(readOnly = true)
-    public boolean existsByEmail(String email) {
-        log.debug("Checking if user exists with email: {}", email);
-        return userDao.fetchOptionalByEmail(email).isPresent();
+    public List<UUID> findIdsByFilter(GetAllUsersRequestDTO request, UUID afterId, int limit) {
+        if (!request.hasFilters()) {
+            // An empty filter would match every user
+            throw new IllegalArgumentException("A name or email filter is required");
+        }
+        Condition condition = buildFilterConditions(request);
+        if (afterId != null) {
+            condition = condition.and(USER.ID.gt(afterId));
+        }
+
+        return dslContext.select(USER.ID)
+                .from(USER)
+                .where(condition)
+                .orderBy(USER.ID)
+                .limit(limit)
+                .fetch(USER.ID);
     }
 
     // ========================================
@@ -116,25 +398,87 @@ public class UserRepository {
      * Finds all users matching the given criteria with pagination.
      *
      * @param request The request containing pagination and filter criteria
+     * @param limit   Maximum number of rows to return, usually one more than the page size
      * @return List of matching users
      */
     @Transactional(readOnly = true)
-    public List<User> findAll(GetAllUsersRequestDTO request) {
+    public List<User> findAll(GetAllUsersRequestDTO request, int limit) {
         log.debug("Finding users with page: {}, pageSize: {}", request.getPage(), request.getPageSize());
 
+        List<User> results = buildPageQuery(request, limit, selectFields(request))
+                .fetchInto(User.class);
+
+        log.debug("Found {} users on page {}", results.size(), request.getPage());
+        return results;
+    }
+
+    /**
+     * Finds all users matching the given criteria with pagination, together with the
+     * total number of matching users.
+     * <p>
+     * The total is computed by a {@code count(*) over ()} window in the page query
+     * itself, so no separate count round trip is needed. When the page is past the
+     * last row the window yields nothing and the total is null.
+     *
+     * @param request The request containing pagination and filter criteria
+     * @param limit   Maximum number of rows to return, usually one more than the page size
+     * @return The matching users and their total count
+     */
+    @Transactional(readOnly = true)
+    public UserPageResult findAllWithTotalCount(GetAllUsersRequestDTO request, int limit) {
+        log.debug("Finding users with total count, page: {}, pageSize: {}", request.getPage(), request.getPageSize());
+
+        Field<Integer> totalCount = count().over().as("total_count");
+        SelectFieldOrAsterisk[] fields = selectFields(request);
+        SelectFieldOrAsterisk[] fieldsWithCount = Arrays.copyOf(fields, fields.length + 1);
+        fieldsWithCount[fields.length] = totalCount;
+        Result<Record> records = buildPageQuery(request, limit, fieldsWithCount)
+                .fetch();
+
+        List<User> users = records.into(User.class);
+        Integer total = records.isEmpty() ? null : records.get(0).get(totalCount);
+
+        log.debug("Found {} users on page {}, total count: {}", users.size(), request.getPage(), total);
+        return new UserPageResult(users, total);
+    }
+
+    /**
+     * Finds users matching the given criteria by seeking past a keyset cursor.
+     * <p>
+     * Rows are ordered on {@code (created_on, id)} so the scan is served by
+     * {@code idx_user_created_on_id} and costs the same for every page. Rows are
+     * returned in scan order, which is reversed relative to the requested sort
+     * direction when the cursor points backwards.
+     *
+     * @param request The request containing page size, sort and filter criteria
+     * @param cursor  The cursor to seek from, or null for the first page
+     * @param limit   Maximum number of rows to return
+     * @return List of matching users in scan order
+     */
+    @Transactional(readOnly = true)
+    public List<User> findAllByCursor(GetAllUsersRequestDTO request, UserCursor cursor, int limit) {
+        log.debug("Finding users with cursor: {}, limit: {}", cursor, limit);
+
+        boolean backward = cursor != null && cursor.direction() == UserCursor.Direction.PREV;
+        boolean descending = (request.getSortDirection() == GetAllUsersRequestDTO.SortDirection.DESC) != backward;
+
         Condition condition = buildFilterConditions(request);
-        SortField<?> sortField = buildSortField(request.getSortDirection());
-        int offset = (request.getPage() - 1) * request.getPageSize();
+        if (cursor != null) {
+            condition = condition.and(descending
+                    ? row(USER.CREATED_ON, USER.ID).lt(cursor.createdOn(), cursor.id())
+                    : row(USER.CREATED_ON, USER.ID).gt(cursor.createdOn(), cursor.id()));
+        }
+        List<SortField<?>> sortFields = buildSortFields(descending);
 
-        List<User> results = dslContext.select()
+        // The cursor is built from created_on and id, so those are always selected
+        List<User> results = dslContext.select(selectFields(request, USER.CREATED_ON, USER.ID))
                 .from(USER)
                 .where(condition)
-                .orderBy(sortField)
-                .limit(request.getPageSize())
-                .offset(offset)
+                .orderBy(sortFields)
+                .limit(limit)
                 .fetchInto(User.class);
 
-        log.debug("Found {} users on page {}", results.size(), request.getPage());
+        log.debug("Found {} users after cursor", results.size());
         return results;
     }
 
@@ -160,27 +504,168 @@ public class UserRepository {
         return result;
     }
 
+    /**
+     * Streams every user to the given consumer through a server-side cursor.
+     * <p>
+     * Rows are fetched from the database {@code fetchSize} at a time, so memory use does
+     * not grow with the table. The password column is never selected. Must be called
+     * inside a transaction, as the PostgreSQL driver only uses a cursor when auto-commit
+     * is off.
+     *
+     * @param fetchSize Number of rows fetched per round trip
+     * @param consumer  Callback receiving each user in turn
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(int fetchSize, Consumer<User> consumer) {
+        log.debug("Streaming all users with fetch size: {}", fetchSize);
+
+        try (Cursor<Record> cursor = dslContext.select(PUBLIC_FIELDS)
+                .from(USER)
+                .fetchSize(fetchSize)
+                .fetchLazy()) {
+            for (Record record : cursor) {
+                consumer.accept(record.into(User.class));
+            }
+        }
+    }
+
+    /**
+     * Estimates the number of users matching the filter criteria from planner statistics.
+     * <p>
+     * Without filters this reads {@code pg_class.reltuples}; with filters, or when the
+     * table has never been analyzed, it uses the row estimate of the query plan. Neither
+     * touches the table data, so the cost is constant regardless of table size.
+     *
+     * @param request The request containing filter criteria
+     * @return Estimated count of users matching the criteria
+     */
+    @Transactional(readOnly = true)
+    public int estimateCount(GetAllUsersRequestDTO request) {
+        log.debug("Estimating user count with filters");
+
+        Condition condition = buildFilterConditions(request);
+
+        double estimate = -1;
+        if (!request.hasFilters()) {
+            Double reltuples = dslContext.resultQuery(
+                            "select reltuples from pg_class where oid = to_regclass({0})",
+                            val(dslContext.render(USER)))
+                    .fetchOne(0, Double.class);
+            estimate = reltuples != null ? reltuples : -1;
+        }
+        if (estimate < 0) {
+            estimate = dslContext.explain(dslContext.selectFrom(USER).where(condition)).rows();
+        }
+
+        int result = (int) Math.min(Math.round(estimate), Integer.MAX_VALUE);
+        log.debug("Estimated {} total users", result);
+        return result;
+    }
+
     // ========================================
     // PRIVATE HELPER METHODS
     // ========================================
 
+    // Package-private so the query rendering benchmark can build the same query
+    ResultQuery<Record> buildPageQuery(GetAllUsersRequestDTO request, int limit, SelectFieldOrAsterisk... fields) {
+        Condition condition = buildFilterConditions(request);
+        List<SortField<?>> sortFields = new ArrayList<>();
+        buildRankField(request).ifPresent(rank -> sortFields.add(rank.desc()));
+        sortFields.addAll(buildSortFields(request.getSortDirection() == GetAllUsersRequestDTO.SortDirection.DESC));
+        int offset = (request.getPage() - 1) * request.getPageSize();
+
+        return dslContext.select(fields)
+                .from(USER)
+                .where(condition)
+                .orderBy(sortFields)
+                .limit(limit)
+                .offset(offset);
+    }
+
+    /**
+     * Resolves the columns to select for the requested sparse fieldset.
+     * <p>
+     * All public columns are selected when no fieldset is requested; the password is never selected.
+     */
+    private SelectFieldOrAsterisk[] selectFields(GetAllUsersRequestDTO request, Field<?>... required) {
+        Set<UserField> fields = UserField.parse(request.getFields());
+        if (fields.isEmpty()) {
+            return PUBLIC_FIELDS.toArray(SelectFieldOrAsterisk[]::new);
+        }
+
+        Set<Field<?>> columns = new LinkedHashSet<>(Arrays.asList(required));
+        for (UserField field : fields) {
+            columns.add(column(field));
+        }
+        return columns.toArray(SelectFieldOrAsterisk[]::new);
+    }
+
+    private static Field<?> column(UserField field) {
+        return switch (field) {
+            case ID -> USER.ID;
+            case NAME -> USER.NAME;
+            case EMAIL -> USER.EMAIL;
+            case MOBILE_NUMBER -> USER.MOBILE_NUMBER;
+            case IS_ACTIVE -> USER.IS_ACTIVE;
+            case CREATED_ON -> USER.CREATED_ON;
+            case UPDATED_ON -> USER.UPDATED_ON;
+            case CREATED_BY -> USER.CREATED_BY;
+            case UPDATED_BY -> USER.UPDATED_BY;
+            case VERSION -> USER.VERSION;
+        };
+    }
+
     private Condition buildFilterConditions(GetAllUsersRequestDTO request) {
         Condition condition = noCondition();
 
         if (request.getNameFilter() != null && !request.getNameFilter().isBlank()) {
-            condition = condition.and(USER.NAME.containsIgnoreCase(request.getNameFilter()));
+            condition = condition.and(buildMatchCondition(USER.NAME, request.getNameFilter(), request.getMatchStrategy()));
         }
         if (request.getEmailFilter() != null && !request.getEmailFilter().isBlank()) {
-            condition = condition.and(USER.EMAIL.containsIgnoreCase(request.getEmailFilter()));
+            condition = condition.and(buildMatchCondition(USER.EMAIL, request.getEmailFilter(), request.getMatchStrategy()));
         }
 
         return condition;
     }
 
-    private SortField<?> buildSortField(GetAllUsersRequestDTO.SortDirection sortDirection) {
-        return sortDirection == GetAllUsersRequestDTO.SortDirection.DESC
-                ? USER.CREATED_ON.desc()
-                : USER.CREATED_ON.asc();
+    private Condition buildMatchCondition(Field<String> field, String value, GetAllUsersRequestDTO.MatchStrategy matchStrategy) {
+        // Patterns are bound as plain ILIKE values so the trigram GIN indexes can serve them
+        return switch (matchStrategy != null ? matchStrategy : GetAllUsersRequestDTO.MatchStrategy.CONTAINS) {
+            case CONTAINS -> field.likeIgnoreCase("%" + escapeLikePattern(value) + "%", LIKE_ESCAPE);
+            case PREFIX -> field.likeIgnoreCase(escapeLikePattern(value) + "%", LIKE_ESCAPE);
+            case SIMILARITY -> condition("{0} % {1}", field, val(value));
+        };
+    }
+
+    private Optional<Field<Float>> buildRankField(GetAllUsersRequestDTO request) {
+        if (request.getMatchStrategy() != GetAllUsersRequestDTO.MatchStrategy.SIMILARITY) {
+            return Optional.empty();
+        }
+
+        Field<Float> rank = null;
+        if (request.getNameFilter() != null && !request.getNameFilter().isBlank()) {
+            rank = similarity(USER.NAME, request.getNameFilter());
+        }
+        if (request.getEmailFilter() != null && !request.getEmailFilter().isBlank()) {
+            Field<Float> emailRank = similarity(USER.EMAIL, request.getEmailFilter());
+            rank = rank != null ? rank.plus(emailRank) : emailRank;
+        }
+        return Optional.ofNullable(rank);
+    }
+
+    private Field<Float> similarity(Field<String> field, String value) {
+        return field("similarity({0}, {1})", SQLDataType.REAL, field, val(value));
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private List<SortField<?>> buildSortFields(boolean descending) {
+        // id breaks ties between users created at the same instant so the order is total
+        return descending
+                ? List.of(USER.CREATED_ON.desc(), USER.ID.desc())
+                : List.of(USER.CREATED_ON.asc(), USER.ID.asc());
     }
 }
 
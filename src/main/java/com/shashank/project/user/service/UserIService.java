@@ -1,8 +1,12 @@
 package com.shashank.project.user.service;
 
+import com.shashank.project.common.BatchGetResponseDTO;
 import com.shashank.project.user.dto.request.*;
 import com.shashank.project.user.dto.response.*;
 
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,18 +24,32 @@ public interface UserIService {
      * <p>
      * This method performs the following operations:
      * <ul>
-     *   <li>Validates that the email doesn't already exist</li>
-     *   <li>Encodes the password using BCrypt</li>
-     *   <li>Creates and persists the user entity</li>
+     *   <li>Encodes the password using BCrypt on the bounded hashing executor</li>
+     *   <li>Inserts the user unless the email already exists, in a single statement</li>
      *   <li>Returns a success response with the created user ID</li>
      * </ul>
      *
      * @param request The user creation request containing all required details
      * @return UserCreateResponseDTO containing the created user ID and success message
      * @throws com.shashank.project.user.exception.UserAlreadyExistsException if email already exists
+     * @throws com.shashank.project.common.TooManyRequestsException if the hashing executor is saturated
      */
     UserCreateResponseDTO createUser(UserCreateRequestDTO request);
 
+    /**
+     * Creates many users in one call.
+     * <p>
+     * Email conflicts are checked with a single query, passwords are hashed in parallel
+     * on the hashing executor, and users are inserted with multi-row INSERTs in
+     * configurable chunks. Conflicting items are reported individually instead of
+     * failing the whole request.
+     *
+     * @param request The bulk creation request
+     * @return UserBulkCreateResponseDTO containing per-item results and throughput
+     * @throws com.shashank.project.common.TooManyRequestsException if the hashing executor is saturated
+     */
+    UserBulkCreateResponseDTO bulkCreateUsers(UserBulkCreateRequestDTO request);
+
     /**
      * Retrieves a user by their ID.
      *
@@ -41,6 +59,22 @@ public interface UserIService {
      */
     UserResponseDTO getUserById(UUID userId);
 
+    /**
+     * Returns the current entity tag of a user without loading the full record.
+     *
+     * @param userId The ID of the user
+     * @return Optional containing the quoted entity tag, or empty if the user doesn't exist
+     */
+    Optional<String> getUserETag(UUID userId);
+
+    /**
+     * Retrieves many users by ID in a single query.
+     *
+     * @param ids The requested user IDs; duplicates are ignored
+     * @return BatchGetResponseDTO with one result per distinct ID in request order
+     */
+    BatchGetResponseDTO<UserResponseDTO> batchGetUsers(List<UUID> ids);
+
     /**
      * Retrieves a user by their email address.
      *
@@ -58,16 +92,30 @@ public interface UserIService {
      */
     GetAllUsersResponseDTO getAllUsers(GetAllUsersRequestDTO request);
 
+    /**
+     * Streams all users to the given output stream in the requested format.
+     * <p>
+     * Rows are read through a database cursor and written as they arrive, so memory
+     * use stays flat regardless of the number of users. The output stream is flushed
+     * but not closed.
+     *
+     * @param format       The output format
+     * @param outputStream The stream to write the export to
+     */
+    void exportUsers(UserExportFormat format, OutputStream outputStream);
+
     /**
      * Updates an existing user with the provided details.
      *
      * @param userId  The ID of the user to update
      * @param request The user update request containing fields to update
-     * @return UserUpdateResponseDTO containing the updated user ID and success message
+     * @param ifMatch The If-Match header value, or null to update unconditionally
+     * @return UserUpdateResponseDTO containing the updated user ID, new version and success message
      * @throws com.shashank.project.user.exception.UserNotFoundException if user doesn't exist
      * @throws com.shashank.project.user.exception.UserAlreadyExistsException if new email already exists
+     * @throws com.shashank.project.common.PreconditionFailedException if the user no longer matches If-Match
      */
-    UserUpdateResponseDTO updateUser(UUID userId, UserUpdateRequestDTO request);
+    UserUpdateResponseDTO updateUser(UUID userId, UserUpdateRequestDTO request, String ifMatch);
 
     /**
      * Deletes a user by their ID.
@@ -95,5 +143,14 @@ public interface UserIService {
      * @throws com.shashank.project.user.exception.UserNotFoundException if user doesn't exist
      */
     UserStatusResponseDTO deactivateUser(UUID userId);
-}
 
+    /**
+     * Activates or deactivates many users, selected by ID list or by filter.
+     * Updates run in short chunked transactions so row locks are held briefly.
+     *
+     * @param request The bulk status request
+     * @return UserBulkStatusResponseDTO with updated, unchanged and missing counts
+     * @throws com.shashank.project.common.ValidationException if both or neither of ids and filter are given
+     */
+    UserBulkStatusResponseDTO bulkUpdateStatus(UserBulkStatusRequestDTO request);
+}
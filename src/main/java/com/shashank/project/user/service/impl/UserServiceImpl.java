@@ -1,22 +1,58 @@
 package com.shashank.project.user.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shashank.project.common.BatchGetResponseDTO;
+import com.shashank.project.common.BatchLoader;
+import com.shashank.project.common.ETags;
+import com.shashank.project.common.PasswordHashingService;
+import com.shashank.project.common.PreconditionFailedException;
+import com.shashank.project.common.SingleFlight;
+import com.shashank.project.common.ValidationException;
 import com.shashank.project.db.jooq.tables.pojos.User;
 import com.shashank.project.user.dto.request.*;
 import com.shashank.project.user.dto.response.*;
 import com.shashank.project.user.exception.UserAlreadyExistsException;
 import com.shashank.project.user.exception.UserNotFoundException;
 import com.shashank.project.user.mapper.UserMapper;
+import com.shashank.project.user.repository.UserCache;
+import com.shashank.project.user.repository.UserCursor;
+import com.shashank.project.user.repository.UserPageResult;
 import com.shashank.project.user.repository.UserRepository;
 import com.shashank.project.user.service.UserIService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.OffsetDateTime;
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -34,56 +70,182 @@ public class UserServiceImpl implements UserIService {
 
     private static final int DEFAULT_PAGE = 1;
     private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "name", "email", "mobile_number", "is_active",
+            "created_on", "updated_on", "created_by", "updated_by");
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final BatchLoader<UUID, User> userBatchLoader;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // Identical concurrent reads share one in-flight result
+    private final SingleFlight<UUID, UserResponseDTO> userByIdFlights = new SingleFlight<>();
+    private final SingleFlight<String, UserResponseDTO> userByEmailFlights = new SingleFlight<>();
+
+    @Value("${app.users.bulk.insert-chunk-size:500}")
+    private int bulkInsertChunkSize;
+
+    @Value("${app.users.bulk.status-chunk-size:1000}")
+    private int bulkStatusChunkSize;
 
     @Override
-    @Transactional
     public UserCreateResponseDTO createUser(UserCreateRequestDTO request) {
         log.info("Creating new user with email: {}", request.getEmail());
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.error("User already exists with email: {}", request.getEmail());
-            throw new UserAlreadyExistsException(request.getEmail());
-        }
-
-        // Encode password
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // Encode password on the hashing executor, without holding a database connection
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         // Create user entity
         UUID userId = UUID.randomUUID();
         User user = userMapper.toEntity(request, userId, encodedPassword);
 
-        // Save user
-        userRepository.save(user);
+        // Save user; the email check and insert are one race-free statement
+        if (!userRepository.saveIfEmailAbsent(user)) {
+            log.error("User already exists with email: {}", request.getEmail());
+            throw new UserAlreadyExistsException(request.getEmail());
+        }
 
         log.info("User created successfully with ID: {}", userId);
         return userMapper.toCreateResponse(user, "User created successfully");
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public UserBulkCreateResponseDTO bulkCreateUsers(UserBulkCreateRequestDTO request) {
+        List<UserCreateRequestDTO> items = request.getUsers();
+        log.info("Bulk creating {} users", items.size());
+        long startNanos = System.nanoTime();
+
+        UserBulkCreateResponseDTO.ItemResultDTO[] results = new UserBulkCreateResponseDTO.ItemResultDTO[items.size()];
+
+        // Reject invalid items and emails repeated within the request, keeping the first occurrence
+        Map<String, Integer> firstIndexByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            UserCreateRequestDTO item = items.get(i);
+            String violations = bulkItemViolations(item);
+            if (violations != null) {
+                results[i] = bulkItemResult(i, item != null ? item.getEmail() : null, null,
+                        UserBulkCreateResponseDTO.ItemStatus.INVALID, violations);
+                continue;
+            }
+            String email = item.getEmail();
+            if (firstIndexByEmail.putIfAbsent(email, i) != null) {
+                results[i] = bulkItemResult(i, email, null, UserBulkCreateResponseDTO.ItemStatus.DUPLICATE_IN_REQUEST,
+                        "Email appears earlier in the same request");
+            }
+        }
+
+        // Reject emails that already exist with a single = ANY(?) query
+        Set<String> existingEmails = userRepository.findExistingEmails(firstIndexByEmail.keySet());
+        List<Integer> pending = new ArrayList<>();
+        for (int index : firstIndexByEmail.values()) {
+            String email = items.get(index).getEmail();
+            if (existingEmails.contains(email)) {
+                results[index] = bulkItemResult(index, email, null, UserBulkCreateResponseDTO.ItemStatus.ALREADY_EXISTS,
+                        "User already exists with email: " + email);
+            } else {
+                pending.add(index);
+            }
+        }
+
+        // Hash in parallel on the hashing executor, without holding a database connection
+        List<String> encodedPasswords = passwordHashingService.encodeAll(pending.stream()
+                .map(index -> items.get(index).getPassword())
+                .collect(Collectors.toList()));
+
+        List<User> users = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            users.add(userMapper.toEntity(items.get(pending.get(i)), UUID.randomUUID(), encodedPasswords.get(i)));
+        }
+
+        // Insert in chunks, each in its own short transaction
+        int created = 0;
+        for (int from = 0; from < users.size(); from += bulkInsertChunkSize) {
+            int to = Math.min(from + bulkInsertChunkSize, users.size());
+            Set<UUID> inserted = userRepository.saveAll(users.subList(from, to));
+            for (int i = from; i < to; i++) {
+                User user = users.get(i);
+                int index = pending.get(i);
+                if (inserted.contains(user.getId())) {
+                    created++;
+                    results[index] = bulkItemResult(index, user.getEmail(), user.getId(),
+                            UserBulkCreateResponseDTO.ItemStatus.CREATED, "User created successfully");
+                } else {
+                    // Lost a race with a concurrent signup for the same email
+                    results[index] = bulkItemResult(index, user.getEmail(), null,
+                            UserBulkCreateResponseDTO.ItemStatus.ALREADY_EXISTS, "User already exists with email: " + user.getEmail());
+                }
+            }
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        double usersPerSecond = durationMs > 0 ? created * 1000.0 / durationMs : created;
+
+        log.info("Bulk created {} of {} users in {} ms", created, items.size(), durationMs);
+        return UserBulkCreateResponseDTO.builder()
+                .results(Arrays.asList(results))
+                .requested(items.size())
+                .created(created)
+                .failed(items.size() - created)
+                .durationMs(durationMs)
+                .usersPerSecond(usersPerSecond)
+                .build();
+    }
+
+    @Override
     public UserResponseDTO getUserById(UUID userId) {
         log.info("Fetching user by ID: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        // Not transactional: concurrent callers and cache misses wait without holding a connection
+        return userByIdFlights.execute(userId, () -> {
+            User user = userCache.findById(userId, userBatchLoader::load)
+                    .orElseThrow(() -> new UserNotFoundException(userId));
+
+            return userMapper.toResponseDTO(user);
+        });
+    }
+
+    @Override
+    public Optional<String> getUserETag(UUID userId) {
+        // A cached user answers without touching the database
+        Optional<User> cached = userCache.getIfPresent(userId);
+        if (cached.isPresent()) {
+            User user = cached.get();
+            return Optional.of(ETags.of(user.getId(), user.getVersion()));
+        }
 
-        return userMapper.toResponseDTO(user);
+        return userRepository.findVersion(userId)
+                .map(version -> ETags.of(userId, version));
     }
 
     @Override
     @Transactional(readOnly = true)
+    public BatchGetResponseDTO<UserResponseDTO> batchGetUsers(List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        log.info("Batch fetching {} users", distinctIds.size());
+
+        Map<UUID, UserResponseDTO> byId = new HashMap<>();
+        for (User user : userRepository.findAllByIds(distinctIds)) {
+            byId.put(user.getId(), userMapper.toResponseDTO(user));
+        }
+
+        return BatchGetResponseDTO.of(distinctIds, byId);
+    }
+
+    @Override
     public UserResponseDTO getUserByEmail(String email) {
         log.info("Fetching user by email: {}", email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException(email));
+        return userByEmailFlights.execute(email, () -> {
+            User user = userCache.findByEmail(email, userRepository::findIdByEmail, userBatchLoader::load)
+                    .orElseThrow(() -> new UserNotFoundException(email));
 
-        return userMapper.toResponseDTO(user);
+            return userMapper.toResponseDTO(user);
+        });
     }
 
     @Override
@@ -91,56 +253,114 @@ public class UserServiceImpl implements UserIService {
     public GetAllUsersResponseDTO getAllUsers(GetAllUsersRequestDTO request) {
         applyDefaults(request);
 
-        log.info("Fetching users with page: {}, pageSize: {}", request.getPage(), request.getPageSize());
+        if (request.getPaginationMode() == GetAllUsersRequestDTO.PaginationMode.CURSOR) {
+            return getAllUsersByCursor(request);
+        }
 
-        List<User> users = userRepository.findAll(request);
-        int totalCount = userRepository.count(request);
+        log.info("Fetching users with page: {}, pageSize: {}, countMode: {}",
+                request.getPage(), request.getPageSize(), request.getCountMode());
+
+        // One extra row tells us whether another page exists beyond this one
+        int limit = request.getPageSize() + 1;
+        List<User> rows;
+        Integer totalCount;
+        if (request.getCountMode() == GetAllUsersRequestDTO.CountMode.EXACT) {
+            UserPageResult result = userRepository.findAllWithTotalCount(request, limit);
+            rows = result.users();
+            totalCount = result.totalCount();
+            if (totalCount == null) {
+                // A page past the end carries no window count, so fall back to counting
+                totalCount = request.getPage() == 1 ? 0 : userRepository.count(request);
+            }
+        } else {
+            rows = userRepository.findAll(request, limit);
+            totalCount = countUsers(request);
+        }
+
+        boolean hasNext = rows.size() > request.getPageSize();
+        List<User> users = hasNext ? rows.subList(0, request.getPageSize()) : rows;
 
         List<UserResponseDTO> userDTOs = users.stream()
                 .map(userMapper::toResponseDTO)
                 .collect(Collectors.toList());
 
         log.info("Fetched {} users, total count: {}", users.size(), totalCount);
-        return GetAllUsersResponseDTO.of(userDTOs, totalCount, request.getPage(), request.getPageSize());
+        return GetAllUsersResponseDTO.of(userDTOs, totalCount, request.getCountMode(), hasNext,
+                request.getPage(), request.getPageSize());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(UserExportFormat format, OutputStream outputStream) {
+        log.info("Exporting users as {}", format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            AtomicLong exported = new AtomicLong();
+            if (format == UserExportFormat.CSV) {
+                writer.write(String.join(",", CSV_HEADER));
+                writer.write('\n');
+                writer.flush();
+                userRepository.streamAll(EXPORT_FETCH_SIZE, user -> {
+                    writeCsvRow(writer, userMapper.toResponseDTO(user));
+                    flushFirstRow(writer, exported.incrementAndGet());
+                });
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                generator.setRootValueSeparator(null);
+                ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                userRepository.streamAll(EXPORT_FETCH_SIZE, user -> {
+                    try {
+                        rowWriter.writeValue(generator, userMapper.toResponseDTO(user));
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    flushFirstRow(generator, exported.incrementAndGet());
+                });
+                generator.flush();
+            }
+            writer.flush();
+            log.info("Exported {} users as {}", exported.get(), format);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
     @Override
     @Transactional
-    public UserUpdateResponseDTO updateUser(UUID userId, UserUpdateRequestDTO request) {
+    public UserUpdateResponseDTO updateUser(UUID userId, UserUpdateRequestDTO request, String ifMatch) {
         log.info("Updating user with ID: {}", userId);
 
-        // Fetch existing user
-        User existingUser = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
-
-        // Check if email is being changed and if new email already exists
-        if (request.getEmail() != null && !request.getEmail().equals(existingUser.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
-                log.error("Email already exists: {}", request.getEmail());
-                throw new UserAlreadyExistsException(request.getEmail());
+        // With If-Match, the update only applies to the version the client's tag was built from
+        Long expectedVersion = null;
+        if (ifMatch != null) {
+            long version = userRepository.findVersion(userId)
+                    .orElseThrow(() -> new UserNotFoundException(userId));
+            if (!ETags.matchesStrong(ifMatch, ETags.of(userId, version))) {
+                throw new PreconditionFailedException("User", userId);
             }
+            expectedVersion = version;
         }
 
-        // Update fields
-        if (request.getName() != null) {
-            existingUser.setName(request.getName());
-        }
-        if (request.getEmail() != null) {
-            existingUser.setEmail(request.getEmail());
-        }
-        if (request.getMobileNumber() != null) {
-            existingUser.setMobileNumber(request.getMobileNumber());
-        }
-        if (request.getIsActive() != null) {
-            existingUser.setIsActive(request.getIsActive());
+        // Update only the provided fields in a single statement; the unique constraint guards email changes
+        User updatedUser;
+        try {
+            Optional<User> updated = userRepository.update(userId, request, expectedVersion);
+            if (updated.isEmpty()) {
+                throw expectedVersion != null
+                        ? new PreconditionFailedException("User", userId)
+                        : new UserNotFoundException(userId);
+            }
+            updatedUser = updated.get();
+        } catch (DuplicateKeyException ex) {
+            log.error("Email already exists: {}", request.getEmail());
+            throw new UserAlreadyExistsException(request.getEmail());
         }
-        existingUser.setUpdatedOn(OffsetDateTime.now());
-
-        // Save updated user
-        userRepository.update(existingUser);
+        userCache.invalidate(userId);
 
         log.info("User updated successfully with ID: {}", userId);
-        return userMapper.toUpdateResponse(existingUser, "User updated successfully");
+        return userMapper.toUpdateResponse(updatedUser, "User updated successfully");
     }
 
     @Override
@@ -148,10 +368,9 @@ public class UserServiceImpl implements UserIService {
     public UserDeleteResponseDTO deleteUser(UUID userId) {
         log.info("Deleting user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.deleteById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-
-        userRepository.deleteById(userId);
+        userCache.invalidate(userId);
 
         log.info("User deleted successfully with ID: {}", userId);
         return userMapper.toDeleteResponse(user, "User deleted successfully");
@@ -162,12 +381,9 @@ public class UserServiceImpl implements UserIService {
     public UserStatusResponseDTO activateUser(UUID userId) {
         log.info("Activating user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.updateStatus(userId, true)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-
-        user.setIsActive(true);
-        user.setUpdatedOn(OffsetDateTime.now());
-        userRepository.update(user);
+        userCache.invalidate(userId);
 
         log.info("User activated successfully with ID: {}", userId);
         return userMapper.toStatusResponse(user, "ACTIVE", "User activated successfully");
@@ -178,17 +394,205 @@ public class UserServiceImpl implements UserIService {
     public UserStatusResponseDTO deactivateUser(UUID userId) {
         log.info("Deactivating user with ID: {}", userId);
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.updateStatus(userId, false)
                 .orElseThrow(() -> new UserNotFoundException(userId));
-
-        user.setIsActive(false);
-        user.setUpdatedOn(OffsetDateTime.now());
-        userRepository.update(user);
+        userCache.invalidate(userId);
 
         log.info("User deactivated successfully with ID: {}", userId);
         return userMapper.toStatusResponse(user, "INACTIVE", "User deactivated successfully");
     }
 
+    @Override
+    public UserBulkStatusResponseDTO bulkUpdateStatus(UserBulkStatusRequestDTO request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new ValidationException("Provide either ids or filter, but not both");
+        }
+        if (!hasIds && !request.getFilter().hasFilters()) {
+            throw new ValidationException("Filter must set nameFilter or emailFilter");
+        }
+        boolean active = request.getActive();
+        long startNanos = System.nanoTime();
+
+        int updated = 0;
+        int unchanged = 0;
+        List<UUID> missingIds = new ArrayList<>();
+
+        if (hasIds) {
+            List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            log.info("Setting active={} for {} users by id", active, ids.size());
+
+            for (int from = 0; from < ids.size(); from += bulkStatusChunkSize) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + bulkStatusChunkSize, ids.size()));
+                List<UUID> changed = userRepository.updateStatusByIds(chunk, active);
+                changed.forEach(userCache::invalidate);
+                updated += changed.size();
+
+                // Only ids that did not change need a second look to tell "already in state" from "missing"
+                if (changed.size() < chunk.size()) {
+                    Set<UUID> changedSet = new HashSet<>(changed);
+                    List<UUID> leftover = chunk.stream().filter(id -> !changedSet.contains(id)).toList();
+                    Set<UUID> existing = userRepository.findExistingIds(leftover);
+                    unchanged += existing.size();
+                    leftover.stream().filter(id -> !existing.contains(id)).forEach(missingIds::add);
+                }
+            }
+        } else {
+            log.info("Setting active={} for users matching name: {}, email: {}",
+                    active, request.getFilter().getNameFilter(), request.getFilter().getEmailFilter());
+
+            UUID afterId = null;
+            List<UUID> chunk;
+            while (!(chunk = userRepository.findIdsByFilter(request.getFilter(), afterId, bulkStatusChunkSize)).isEmpty()) {
+                List<UUID> changed = userRepository.updateStatusByIds(chunk, active);
+                changed.forEach(userCache::invalidate);
+                updated += changed.size();
+                unchanged += chunk.size() - changed.size();
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Bulk status change done: {} updated, {} unchanged, {} missing in {} ms",
+                updated, unchanged, missingIds.size(), durationMs);
+        return UserBulkStatusResponseDTO.builder()
+                .status(active ? "ACTIVE" : "INACTIVE")
+                .updated(updated)
+                .unchanged(unchanged)
+                .missing(missingIds.size())
+                .missingIds(missingIds)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private GetAllUsersResponseDTO getAllUsersByCursor(GetAllUsersRequestDTO request) {
+        log.info("Fetching users with cursor, pageSize: {}", request.getPageSize());
+
+        UserCursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                ? UserCursor.decode(request.getCursor())
+                : null;
+        boolean backward = cursor != null && cursor.direction() == UserCursor.Direction.PREV;
+
+        // One extra row tells us whether another page exists beyond this one
+        List<User> rows = userRepository.findAllByCursor(request, cursor, request.getPageSize() + 1);
+        boolean hasMore = rows.size() > request.getPageSize();
+        List<User> users = new ArrayList<>(hasMore ? rows.subList(0, request.getPageSize()) : rows);
+        if (backward) {
+            Collections.reverse(users);
+        }
+        // Only the first page pays for a total; deeper pages would otherwise repeat the count on every request
+        GetAllUsersRequestDTO.CountMode countMode = cursor != null
+                ? GetAllUsersRequestDTO.CountMode.NONE
+                : request.getCountMode();
+        Integer totalCount = cursor != null ? null : countUsers(request);
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!users.isEmpty()) {
+            User first = users.get(0);
+            User last = users.get(users.size() - 1);
+            if (backward || hasMore) {
+                nextCursor = new UserCursor(last.getCreatedOn(), last.getId(), UserCursor.Direction.NEXT).encode();
+            }
+            if (cursor != null && (!backward || hasMore)) {
+                prevCursor = new UserCursor(first.getCreatedOn(), first.getId(), UserCursor.Direction.PREV).encode();
+            }
+        }
+
+        List<UserResponseDTO> userDTOs = users.stream()
+                .map(userMapper::toResponseDTO)
+                .collect(Collectors.toList());
+
+        log.info("Fetched {} users, total count: {}", users.size(), totalCount);
+        return GetAllUsersResponseDTO.ofCursor(userDTOs, totalCount, countMode,
+                request.getPageSize(), nextCursor, prevCursor);
+    }
+
+    private UserBulkCreateResponseDTO.ItemResultDTO bulkItemResult(int index, String email, UUID id,
+                                                                   UserBulkCreateResponseDTO.ItemStatus status, String message) {
+        return UserBulkCreateResponseDTO.ItemResultDTO.builder()
+                .index(index)
+                .email(email)
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Validates one bulk item against the {@link UserCreateRequestDTO} constraints.
+     *
+     * @return the joined violation messages, or {@code null} when the item is valid
+     */
+    private String bulkItemViolations(UserCreateRequestDTO item) {
+        if (item == null) {
+            return "User must not be null";
+        }
+        Set<ConstraintViolation<UserCreateRequestDTO>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void writeCsvRow(Writer writer, UserResponseDTO user) {
+        try {
+            writer.write(csvValue(user.getId()));
+            writer.write(',');
+            writer.write(csvValue(user.getName()));
+            writer.write(',');
+            writer.write(csvValue(user.getEmail()));
+            writer.write(',');
+            writer.write(csvValue(user.getMobileNumber()));
+            writer.write(',');
+            writer.write(csvValue(user.getIsActive()));
+            writer.write(',');
+            writer.write(csvValue(user.getCreatedOn()));
+            writer.write(',');
+            writer.write(csvValue(user.getUpdatedOn()));
+            writer.write(',');
+            writer.write(csvValue(user.getCreatedBy()));
+            writer.write(',');
+            writer.write(csvValue(user.getUpdatedBy()));
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private void flushFirstRow(Flushable target, long rowNumber) {
+        // Push the first row out immediately so clients see bytes before the export completes
+        if (rowNumber == 1) {
+            try {
+                target.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private Integer countUsers(GetAllUsersRequestDTO request) {
+        return switch (request.getCountMode()) {
+            case EXACT -> userRepository.count(request);
+            case ESTIMATED -> userRepository.estimateCount(request);
+            case NONE -> null;
+        };
+    }
+
     private void applyDefaults(GetAllUsersRequestDTO request) {
         if (request.getPage() == null || request.getPage() < 1) {
             request.setPage(DEFAULT_PAGE);
@@ -196,6 +600,18 @@ public class UserServiceImpl implements UserIService {
         if (request.getPageSize() == null || request.getPageSize() < 1) {
             request.setPageSize(DEFAULT_PAGE_SIZE);
         }
+        if (request.getSortDirection() == null) {
+            request.setSortDirection(GetAllUsersRequestDTO.SortDirection.DESC);
+        }
+        if (request.getMatchStrategy() == null) {
+            request.setMatchStrategy(GetAllUsersRequestDTO.MatchStrategy.CONTAINS);
+        }
+        if (request.getCountMode() == null) {
+            request.setCountMode(GetAllUsersRequestDTO.CountMode.EXACT);
+        }
+        if (request.getPaginationMode() == null) {
+            request.setPaginationMode(GetAllUsersRequestDTO.PaginationMode.OFFSET);
+        }
     }
 }
 